@@ -61,7 +61,7 @@ public interface IBuilding extends IBuildingContainer, IRequestResolverProvider,
     /**
      * Get all modules with a particular class or interface.
      * @param clazz the module's interface (or class, but prefer getModule in that case)
-     * @return the list of modules or empty if none match.
+     * @return the unmodifiable list of modules or empty if none match.
      */
     @NotNull
     <T extends IBuildingModule> List<T> getModules(Class<T> clazz);
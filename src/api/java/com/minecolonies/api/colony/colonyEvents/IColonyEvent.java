@@ -69,6 +69,11 @@ public interface IColonyEvent extends INBTSerializable<CompoundNBT>
      */
     default void onFinish() { }
 
+    /**
+     * Actions which are done when the event is dropped without finishing, when it gets cancelled or its colony is unloaded or deleted.
+     */
+    default void onUnload() { }
+
     /**
      * Called by tileentities relevant to the event on invalidation.
      *
@@ -94,6 +94,13 @@ public interface IColonyPackageManager
      */
     void removeCloseSubscriber(@NotNull final ServerPlayerEntity player);
 
+    /**
+     * Send the full colony view to a subscriber again on the next update, for example if it missed an update.
+     *
+     * @param player the subscriber.
+     */
+    void resendColonyView(@NotNull final ServerPlayerEntity player);
+
     /**
      * Returns the global subscribers.
      *
@@ -75,6 +75,11 @@ public interface IEventManager
      */
     void onColonyTick(@NotNull IColony colony);
 
+    /**
+     * Called when the colony is unloaded or deleted, forwarded to the events so they can release what they hold.
+     */
+    void onColonyUnload();
+
     /**
      * Gets an event by its id.
      *
@@ -2,10 +2,34 @@ package com.minecolonies.api.colony.requestsystem.data;
 
 import com.minecolonies.api.colony.requestsystem.request.IRequest;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
 
 /**
  * The KV-Store for the requests and their identities. Extends the {@link IIdentitiesDataStore} with {@link IToken} as key type and {@link IRequest} as value type.
  */
 public interface IRequestIdentitiesDataStore extends IIdentitiesDataStore<IToken<?>, IRequest<?>>
 {
+    /**
+     * Store a request, use instead of adding it to the identities directly to keep the requester index up to date.
+     *
+     * @param request The request to store.
+     */
+    void addRequest(@NotNull IRequest<?> request);
+
+    /**
+     * Remove a request, use instead of removing it from the identities directly to keep the requester index up to date.
+     *
+     * @param token The token of the request to remove.
+     */
+    void removeRequest(@NotNull IToken<?> token);
+
+    /**
+     * Get the tokens of all stored requests made by a requester.
+     *
+     * @param requesterId The id of the requester.
+     * @return An unmodifiable view of the request tokens.
+     */
+    Collection<IToken<?>> getRequestsOfRequester(@NotNull IToken<?> requesterId);
 }
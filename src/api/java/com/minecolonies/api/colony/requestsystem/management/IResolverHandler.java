@@ -1,6 +1,7 @@
 package com.minecolonies.api.colony.requestsystem.management;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.reflect.TypeToken;
 import com.minecolonies.api.colony.requestsystem.manager.IRequestManager;
 import com.minecolonies.api.colony.requestsystem.request.IRequest;
 import com.minecolonies.api.colony.requestsystem.requestable.IRequestable;
@@ -8,6 +9,8 @@ import com.minecolonies.api.colony.requestsystem.resolver.IRequestResolver;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 public interface IResolverHandler
@@ -92,6 +95,14 @@ public interface IResolverHandler
      */
     IRequestResolver<? extends IRequestable> getResolver(IToken<?> token);
 
+    /**
+     * Get the resolvers which can be assigned a request with the given types, ordered by descending priority.
+     *
+     * @param requestTypes The types of the request, see {@link IRequest#getSuperClasses()}.
+     * @return An unmodifiable list of the resolvers.
+     */
+    List<IRequestResolver<?>> getResolversForRequestTypes(Set<TypeToken<?>> requestTypes);
+
     void removeResolverInternal(IRequestResolver<?> resolver);
 
     /**
@@ -38,6 +38,8 @@ public class ServerConfiguration extends AbstractConfiguration
     public final ForgeConfigSpec.BooleanValue builderInfiniteResources;
     public final ForgeConfigSpec.BooleanValue limitToOneWareHousePerColony;
     public final ForgeConfigSpec.IntValue     builderBuildBlockDelay;
+    public final ForgeConfigSpec.IntValue     builderPlacementBatchSize;
+    public final ForgeConfigSpec.IntValue     blueprintCacheVolume;
     public final ForgeConfigSpec.IntValue     blockMiningDelayModifier;
     public final ForgeConfigSpec.BooleanValue enableInDevelopmentFeatures;
     public final ForgeConfigSpec.BooleanValue alwaysRenderNameTag;
@@ -143,6 +145,7 @@ public class ServerConfiguration extends AbstractConfiguration
     public final ForgeConfigSpec.IntValue                            fishingRodDurabilityAdjustT2;
     public final ForgeConfigSpec.ConfigValue<List<? extends String>> diseases;
     public final ForgeConfigSpec.BooleanValue                        debugInventories;
+    public final ForgeConfigSpec.IntValue                            packetCompressionThreshold;
 
 
     /*  ------------------------------------------------------------------------------ *
@@ -152,6 +155,8 @@ public class ServerConfiguration extends AbstractConfiguration
     public final ForgeConfigSpec.IntValue     pathfindingDebugVerbosity;
     public final ForgeConfigSpec.IntValue     pathfindingMaxThreadCount;
     public final ForgeConfigSpec.IntValue     pathfindingMaxNodes;
+    public final ForgeConfigSpec.IntValue     pathfindingMaxQueueSize;
+    public final ForgeConfigSpec.IntValue     pathfindingCacheSize;
     public final ForgeConfigSpec.IntValue     minimumRailsToPath;
 
     /*  --------------------------------------------------------------------------------- *
@@ -191,6 +196,8 @@ public class ServerConfiguration extends AbstractConfiguration
         builderInfiniteResources = defineBoolean(builder, "builderinfiniteresources", false);
         limitToOneWareHousePerColony = defineBoolean(builder, "limittoonewarehousepercolony", true);
         builderBuildBlockDelay = defineInteger(builder, "builderbuildblockdelay", 15, 1, 500);
+        builderPlacementBatchSize = defineInteger(builder, "builderplacementbatchsize", 1, 1, 64);
+        blueprintCacheVolume = defineInteger(builder, "blueprintcachevolume", 2000000, 0, Integer.MAX_VALUE);
         blockMiningDelayModifier = defineInteger(builder, "blockminingdelaymodifier", 500, 1, 10000);
         enableInDevelopmentFeatures = defineBoolean(builder, "enableindevelopmentfeatures", false);
         alwaysRenderNameTag = defineBoolean(builder, "alwaysrendernametag", true);
@@ -493,6 +500,7 @@ public class ServerConfiguration extends AbstractConfiguration
           s -> s instanceof String);
 
         debugInventories = defineBoolean(builder, "debuginventories", false);
+        packetCompressionThreshold = defineInteger(builder, "packetcompressionthreshold", 32768, 0, Integer.MAX_VALUE);
 
         swapToCategory(builder, "pathfinding");
 
@@ -500,6 +508,8 @@ public class ServerConfiguration extends AbstractConfiguration
         minimumRailsToPath = defineInteger(builder, "minimumrailstopath", 5, 5, 100);
         pathfindingMaxThreadCount = defineInteger(builder, "pathfindingmaxthreadcount", 2, 1, 10);
         pathfindingMaxNodes = defineInteger(builder, "pathfindingmaxnodes", 5000, 1, 10000);
+        pathfindingMaxQueueSize = defineInteger(builder, "pathfindingmaxqueuesize", 500, 10, 10000);
+        pathfindingCacheSize = defineInteger(builder, "pathfindingcachesize", 256, 0, 10000);
 
         swapToCategory(builder, "requestSystem");
 
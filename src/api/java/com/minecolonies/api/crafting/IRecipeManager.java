@@ -1,21 +1,29 @@
 package com.minecolonies.api.crafting;
 
-import com.google.common.collect.ImmutableMap;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
 import net.minecraft.nbt.CompoundNBT;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Map;
+
 /**
  * The Interface describing the recipeManager which takes care of the recipes discovered by the colonies in this world.
  */
 public interface IRecipeManager
 {
     /**
-     * Get a unmodifiable copy of the recipes map.
+     * Get an unmodifiable view of the recipes map. Recipes are only added to it until the manager is reset.
      *
      * @return a map of Token, RecipeStorage.
      */
-    ImmutableMap<IToken<?>, IRecipeStorage> getRecipes();
+    Map<IToken<?>, IRecipeStorage> getRecipes();
+
+    /**
+     * Get the modification count of the recipes, incremented whenever a recipe is added or replaced and on reset.
+     *
+     * @return the modification count.
+     */
+    int getModificationCount();
 
     /**
      * Add a recipe to the map.
@@ -4,6 +4,8 @@ import com.minecolonies.api.util.Log;
 import net.minecraft.pathfinding.Path;
 
 import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
@@ -169,6 +171,17 @@ public class PathResult<T extends Callable<Path>>
         }
     }
 
+    /**
+     * Completes the result with an already known path instead of computing it.
+     *
+     * @param knownPath the path.
+     */
+    public void setKnownPath(final Path knownPath)
+    {
+        pathReachesDestination = knownPath.reachesTarget();
+        pathCalculation = CompletableFuture.completedFuture(knownPath);
+    }
+
     /**
      * Processes the completed calculation results
      */
@@ -185,6 +198,12 @@ public class PathResult<T extends Callable<Path>>
             pathCalculation = null;
             setStatus(PathFindingStatus.CALCULATION_COMPLETE);
         }
+        catch (final CancellationException e)
+        {
+            // Dropped by the scheduler before it was computed.
+            pathCalculation = null;
+            setStatus(PathFindingStatus.CANCELLED);
+        }
         catch (InterruptedException | ExecutionException e)
         {
             Log.getLogger().catching(e);
@@ -27,6 +27,15 @@ public interface IResearchEffectManager
      */
      double getEffectStrength(final ResourceLocation id);
 
+    /**
+     * Get the research effect strength for a given ResearchEffect id,
+     * or zero, if no matching effect is present.
+     *
+     * @param id   the int id of the effect, from {@link ResearchEffectIds}.
+     * @return the strength of the effect, or zero if it isn't present.
+     */
+    double getEffectStrength(final int id);
+
     /**
      * Apply the effect to the research effects class.
      *
@@ -0,0 +1,43 @@
+package com.minecolonies.api.research.effects;
+
+import net.minecraft.util.ResourceLocation;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Dense int ids of research effects, assigned on first use and stable for the lifetime of the game. Callers can keep the id of an effect and look up its strength
+ * through {@link IResearchEffectManager#getEffectStrength(int)} without hashing the resource location again.
+ */
+public final class ResearchEffectIds
+{
+    /**
+     * The assigned ids.
+     */
+    private static final Map<ResourceLocation, Integer> ids = new ConcurrentHashMap<>();
+
+    private ResearchEffectIds()
+    {
+        //Hides default constructor.
+    }
+
+    /**
+     * Get the id of a research effect, assigning the next free one if it has none yet.
+     *
+     * @param effect the id of the effect.
+     * @return the int id.
+     */
+    public static int getId(@NotNull final ResourceLocation effect)
+    {
+        final Integer id = ids.get(effect);
+        if (id != null)
+        {
+            return id;
+        }
+        synchronized (ids)
+        {
+            return ids.computeIfAbsent(effect, key -> ids.size());
+        }
+    }
+}
@@ -61,4 +61,11 @@ public abstract class AbstractTileEntityWareHouse extends TileEntityColonyBuildi
      * @param inventoryCitizen the inventory of the citizen
      */
     public abstract void dumpInventoryIntoWareHouse(@NotNull InventoryCitizen inventoryCitizen);
+
+    /**
+     * Mark a container of the warehouse as changed, so its content is read again by the next lookup.
+     *
+     * @param pos the position of the container.
+     */
+    public abstract void markContainerChanged(@NotNull BlockPos pos);
 }
@@ -3,6 +3,10 @@ package com.minecolonies.api.tileentities;
 import com.minecolonies.api.MinecoloniesAPIProxy;
 import com.minecolonies.api.blocks.AbstractBlockMinecoloniesRack;
 import com.minecolonies.api.blocks.types.RackType;
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.IColonyManager;
+import com.minecolonies.api.colony.buildings.IBuilding;
+import com.minecolonies.api.colony.buildings.workerbuildings.IWareHouse;
 import com.minecolonies.api.crafting.ItemStorage;
 import com.minecolonies.api.inventory.api.CombinedItemHandler;
 import com.minecolonies.api.inventory.container.ContainerRack;
@@ -193,10 +197,35 @@ public class TileEntityRack extends AbstractTileEntityRack
             {
                 updateBlockState();
             }
+            if (inWarehouse)
+            {
+                markWarehouseContainerChanged();
+            }
             markDirty();
         }
     }
 
+    /**
+     * Tell the warehouse owning this rack that its content changed.
+     */
+    private void markWarehouseContainerChanged()
+    {
+        if (buildingPos.equals(BlockPos.ZERO))
+        {
+            return;
+        }
+
+        final IColony colony = IColonyManager.getInstance().getColonyByPosFromWorld(world, pos);
+        if (colony != null)
+        {
+            final IBuilding building = colony.getBuildingManager().getBuilding(buildingPos);
+            if (building instanceof IWareHouse && ((IWareHouse) building).getTileEntity() != null)
+            {
+                ((IWareHouse) building).getTileEntity().markContainerChanged(pos);
+            }
+        }
+    }
+
     /**
      * Just do the content update.
      */
@@ -586,6 +615,10 @@ public class TileEntityRack extends AbstractTileEntityRack
     {
         super.remove();
         invalidateCap();
+        if (inWarehouse && world != null && !world.isRemote)
+        {
+            markWarehouseContainerChanged();
+        }
     }
 
     @Override
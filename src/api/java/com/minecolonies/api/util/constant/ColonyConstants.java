@@ -50,6 +50,10 @@ public final class ColonyConstants
      * How often the colony updates day/nighttime in ticks.
      */
     public static final int UPDATE_DAYTIME_INTERVAL = 20;
+    /**
+     * How often the bills of materials of new work orders get calculated further in ticks.
+     */
+    public static final int UPDATE_BILL_OF_MATERIALS_INTERVAL = 5;
 
     /**
      * Max amount of permission/colony events to store in the colony.
@@ -11,18 +11,11 @@ import com.ldtteam.structures.helpers.Settings;
 import com.ldtteam.structurize.management.StructureName;
 import com.ldtteam.structurize.management.Structures;
 import com.ldtteam.structurize.network.messages.SchematicRequestMessage;
-import com.ldtteam.structurize.placement.BlockPlacementResult;
-import com.ldtteam.structurize.placement.StructurePhasePlacementResult;
-import com.ldtteam.structurize.placement.StructurePlacer;
-import com.ldtteam.structurize.placement.structure.IStructureHandler;
-import com.ldtteam.structurize.util.BlueprintPositionInfo;
 import com.ldtteam.structurize.util.LanguageHandler;
 import com.ldtteam.structurize.util.PlacementSettings;
-import com.minecolonies.api.blocks.AbstractBlockHut;
 import com.minecolonies.api.colony.IColonyView;
 import com.minecolonies.api.colony.buildings.views.IBuildingView;
 import com.minecolonies.api.crafting.ItemStorage;
-import com.minecolonies.api.entity.ai.citizen.builder.IBuilderUndestroyable;
 import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.api.util.LoadOnlyStructureHandler;
@@ -31,17 +24,15 @@ import com.minecolonies.api.util.constant.Constants;
 import com.minecolonies.coremod.Network;
 import com.minecolonies.coremod.colony.buildings.views.AbstractBuildingBuilderView;
 import com.minecolonies.coremod.colony.buildings.workerbuildings.BuildingMiner;
+import com.minecolonies.coremod.colony.workorders.BillOfMaterials;
 import com.minecolonies.coremod.network.messages.server.colony.building.BuildRequestMessage;
 import com.minecolonies.coremod.network.messages.server.colony.building.BuildingSetStyleMessage;
-import net.minecraft.block.BlockState;
-import net.minecraft.block.Blocks;
 import net.minecraft.client.Minecraft;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.Mirror;
 import net.minecraft.util.Tuple;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
-import net.minecraftforge.common.util.TriPredicate;
 import net.minecraftforge.fml.server.ServerLifecycleHooks;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -49,7 +40,6 @@ import org.jetbrains.annotations.Nullable;
 import java.util.*;
 import java.util.stream.Collectors;
 
-import static com.ldtteam.structurize.placement.BlueprintIterator.NULL_POS;
 import static com.minecolonies.api.util.constant.WindowConstants.*;
 
 /**
@@ -62,18 +52,6 @@ public class WindowBuildBuilding extends AbstractWindowSkeleton
      */
     private static final String BUILDING_NAME_RESOURCE_SUFFIX = ":gui/windowbuildbuilding.xml";
 
-    /**
-     * Predicate defining things we don't want the builders to ever touch.
-     */
-    protected TriPredicate<BlueprintPositionInfo, BlockPos, IStructureHandler> DONT_TOUCH_PREDICATE = (info, worldPos, handler) ->
-    {
-        final BlockState worldState = handler.getWorld().getBlockState(worldPos);
-
-        return worldState.getBlock() instanceof IBuilderUndestroyable
-                 || worldState.getBlock() == Blocks.BEDROCK
-                 || (info.getBlockInfo().getState().getBlock() instanceof AbstractBlockHut && handler.getWorldPos().equals(worldPos));
-    };
-
     /**
      * The view of the current building.
      */
@@ -301,23 +279,16 @@ public class WindowBuildBuilding extends AbstractWindowSkeleton
         }
 
         structure.getBluePrint().rotateWithMirror(BlockPosUtil.getRotationFromRotations(building.getRotation()), building.isMirrored() ? Mirror.FRONT_BACK : Mirror.NONE, world);
-        StructurePlacer placer = new StructurePlacer(structure);
-        StructurePhasePlacementResult result;
-        BlockPos progressPos = NULL_POS;
-
-        do
+        final BillOfMaterials.Calculation calculation = new BillOfMaterials.Calculation(world, building.getPosition(), structure.getBluePrint());
+        while (!calculation.step(world))
         {
-            result = placer.executeStructureStep(world, null, progressPos, StructurePlacer.Operation.GET_RES_REQUIREMENTS,
-              () -> placer.getIterator().increment(DONT_TOUCH_PREDICATE.and((info, pos, handler) -> false)), true);
-
-            progressPos = result.getIteratorPos();
-            for (final ItemStack stack : result.getBlockResult().getRequiredItems())
-            {
-                addNeededResource(stack, stack.getCount());
-            }
+            // Calculate the whole bill of materials at once.
         }
-        while (result != null && result.getBlockResult().getResult() != BlockPlacementResult.Result.FINISHED);
 
+        for (final ItemStorage resource : calculation.getResult().getTotal())
+        {
+            addNeededResource(resource.getItemStack(), resource.getAmount());
+        }
 
         window.findPaneOfTypeByID(LIST_RESOURCES, ScrollingList.class).refreshElementPanes();
         updateResourceList();
@@ -18,6 +18,7 @@ import com.minecolonies.api.entity.citizen.Skill;
 import com.minecolonies.api.entity.citizen.VisibleCitizenStatus;
 import com.minecolonies.api.entity.citizen.citizenhandlers.ICitizenSkillHandler;
 import com.minecolonies.api.inventory.InventoryCitizen;
+import com.minecolonies.api.research.effects.ResearchEffectIds;
 import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.InventoryUtils;
 import com.minecolonies.api.util.Log;
@@ -66,6 +67,16 @@ import static com.minecolonies.api.util.ItemStackUtils.*;
 @SuppressWarnings({Suppression.BIG_CLASS, "PMD.ExcessiveClassLength"})
 public class CitizenData implements ICitizenData
 {
+    /**
+     * The research effect id of the walking effect.
+     */
+    private static final int WALKING_EFFECT_ID = ResearchEffectIds.getId(WALKING);
+
+    /**
+     * The research effect id of the health boost effect.
+     */
+    private static final int HEALTH_BOOST_EFFECT_ID = ResearchEffectIds.getId(HEALTH_BOOST);
+
     /**
      * The max health.
      */
@@ -1201,12 +1212,12 @@ public class CitizenData implements ICitizenData
             citizen.getNavigator().getPathingOptions().setCanUseRails(((EntityCitizen) citizen).canPathOnRails());
 
             final AttributeModifier speedModifier = new AttributeModifier(RESEARCH_BONUS_MULTIPLIER,
-              colony.getResearchManager().getResearchEffects().getEffectStrength(WALKING),
+              colony.getResearchManager().getResearchEffects().getEffectStrength(WALKING_EFFECT_ID),
               AttributeModifier.Operation.MULTIPLY_TOTAL);
             AttributeModifierUtils.addModifier(citizen, speedModifier, Attributes.MOVEMENT_SPEED);
 
             final AttributeModifier healthModLevel =
-              new AttributeModifier(HEALTH_BOOST.toString(), colony.getResearchManager().getResearchEffects().getEffectStrength(HEALTH_BOOST), AttributeModifier.Operation.ADDITION);
+              new AttributeModifier(HEALTH_BOOST.toString(), colony.getResearchManager().getResearchEffects().getEffectStrength(HEALTH_BOOST_EFFECT_ID), AttributeModifier.Operation.ADDITION);
             AttributeModifierUtils.addHealthModifier(citizen, healthModLevel);
         }
     }
@@ -32,8 +32,11 @@ import com.minecolonies.coremod.colony.permissions.Permissions;
 import com.minecolonies.coremod.colony.pvp.AttackingPlayer;
 import com.minecolonies.coremod.colony.requestsystem.management.manager.StandardRequestManager;
 import com.minecolonies.coremod.colony.workorders.WorkManager;
+import com.minecolonies.coremod.entity.ai.citizen.guard.ColonyThreatIndex;
+import com.minecolonies.coremod.entity.pathfinding.ColonyPathingGrid;
 import com.minecolonies.coremod.network.messages.client.colony.ColonyViewRemoveWorkOrderMessage;
 import com.minecolonies.coremod.permissions.ColonyPermissionEventHandler;
+import com.minecolonies.coremod.util.ChunkClaimIndex;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
 import net.minecraft.entity.player.PlayerEntity;
@@ -317,6 +320,21 @@ public class Colony implements IColony
      */
     private int forceLoadTimer = 0;
 
+    /**
+     * Navigation grid shared by all path jobs in the colony chunks.
+     */
+    private final ColonyPathingGrid pathingGrid = new ColonyPathingGrid();
+
+    /**
+     * Index of the entities around the guards of the colony.
+     */
+    private final ColonyThreatIndex threatIndex = new ColonyThreatIndex();
+
+    /**
+     * Colony wide statistics the happiness of the citizens depends on.
+     */
+    private final ColonyHappinessStats happinessStats = new ColonyHappinessStats(this);
+
     /**
      * Constructor for a newly created Colony.
      *
@@ -365,6 +383,7 @@ public class Colony implements IColony
         colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, this::tickRequests, () -> ACTIVE, UPDATE_RS_INTERVAL));
         colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, this::checkDayTime, () -> ACTIVE, UPDATE_DAYTIME_INTERVAL));
         colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, this::updateWayPoints, () -> ACTIVE, CHECK_WAYPOINT_EVERY));
+        colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, this::updateBillsOfMaterials, () -> ACTIVE, UPDATE_BILL_OF_MATERIALS_INTERVAL));
         colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, this::worldTickSlow, () -> ACTIVE, MAX_TICKRATE));
         colonyStateMachine.addTransition(new TickingTransition<>(UNLOADED, this::worldTickUnloaded, () -> UNLOADED, MAX_TICKRATE));
     }
@@ -408,6 +427,17 @@ public class Colony implements IColony
         return false;
     }
 
+    /**
+     * Continues the bill of materials calculation of the work orders.
+     *
+     * @return false
+     */
+    private boolean updateBillsOfMaterials()
+    {
+        workManager.calculateBillsOfMaterials();
+        return false;
+    }
+
     /**
      * Ticks the request manager.
      *
@@ -1003,6 +1033,7 @@ public class Colony implements IColony
         {
             MinecraftForge.EVENT_BUS.unregister(eventHandler);
         }
+        eventManager.onColonyUnload();
         world = null;
     }
 
@@ -1198,6 +1229,15 @@ public class Colony implements IColony
             return false;
         }
 
+        if (!w.isRemote)
+        {
+            final int owningColony = ChunkClaimIndex.getOwningColony(w, pos);
+            if (owningColony != ChunkClaimIndex.UNKNOWN)
+            {
+                return owningColony == this.getID();
+            }
+        }
+
         final Chunk chunk = w.getChunkAt(pos);
         final IColonyTagCapability cap = chunk.getCapability(CLOSE_COLONY_CAP, null).resolve().orElse(null);
         return cap != null && cap.getOwningColony() == this.getID();
@@ -1454,17 +1494,7 @@ public class Colony implements IColony
     @Override
     public double getOverallHappiness()
     {
-        if (citizenManager.getCitizens().size() <= 0)
-        {
-            return 5.5;
-        }
-
-        double happinessSum = 0;
-        for (final ICitizenData citizen : citizenManager.getCitizens())
-        {
-            happinessSum += citizen.getCitizenHappinessHandler().getHappiness(citizen.getColony());
-        }
-        return happinessSum / citizenManager.getCitizens().size();
+        return happinessStats.getOverallHappiness();
     }
 
     /**
@@ -1877,6 +1907,37 @@ public class Colony implements IColony
     public void removeLoadedChunk(final long chunkPos)
     {
         loadedChunks.remove(chunkPos);
+        pathingGrid.removeChunk(ChunkPos.getX(chunkPos), ChunkPos.getZ(chunkPos));
+    }
+
+    /**
+     * Get the navigation grid of the colony.
+     *
+     * @return the grid.
+     */
+    public ColonyPathingGrid getPathingGrid()
+    {
+        return pathingGrid;
+    }
+
+    /**
+     * Get the index of the entities around the guards of the colony.
+     *
+     * @return the index.
+     */
+    public ColonyThreatIndex getThreatIndex()
+    {
+        return threatIndex;
+    }
+
+    /**
+     * Get the colony wide statistics the happiness of the citizens depends on.
+     *
+     * @return the statistics.
+     */
+    public ColonyHappinessStats getHappinessStats()
+    {
+        return happinessStats;
     }
 
     @Override
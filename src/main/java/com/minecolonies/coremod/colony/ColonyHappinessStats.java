@@ -0,0 +1,170 @@
+package com.minecolonies.coremod.colony;
+
+import com.minecolonies.api.colony.ICitizenData;
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.coremod.colony.jobs.AbstractJobGuard;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Colony wide citizen counts the happiness of every citizen depends on, and the overall happiness. Collected in one pass over the citizens at most once per tick, so the
+ * happiness of each citizen reads them instead of iterating all citizens again.
+ */
+public class ColonyHappinessStats
+{
+    /**
+     * Happiness of a colony without citizens.
+     */
+    private static final double DEFAULT_HAPPINESS = 5.5;
+
+    /**
+     * The colony.
+     */
+    private final IColony colony;
+
+    /**
+     * The game time the counts were collected at.
+     */
+    private long countTime = -1;
+
+    /**
+     * The citizen counts.
+     */
+    private int citizens   = 0;
+    private int unemployed = 0;
+    private int homeless   = 0;
+    private int sick       = 0;
+    private int hungry     = 0;
+    private int guards     = 0;
+
+    /**
+     * The game time the overall happiness was calculated at.
+     */
+    private long happinessTime = -1;
+
+    /**
+     * The overall happiness.
+     */
+    private double happiness = DEFAULT_HAPPINESS;
+
+    /**
+     * Create the statistics of a colony.
+     *
+     * @param colony the colony.
+     */
+    public ColonyHappinessStats(@NotNull final IColony colony)
+    {
+        this.colony = colony;
+    }
+
+    /**
+     * Get the share of citizens which are not unemployed, homeless, sick or hungry, counting citizens with several problems more than once.
+     *
+     * @return the social factor.
+     */
+    public double getSocialFactor()
+    {
+        refreshCounts();
+        return (double) (citizens - (unemployed + homeless + sick + hungry)) / citizens;
+    }
+
+    /**
+     * Get the security factor from the ratio of guards to other citizens.
+     *
+     * @return the guard factor, at most 2.
+     */
+    public double getGuardFactor()
+    {
+        refreshCounts();
+        final double guardCount = guards + 1;
+        final double workerCount = citizens - guards + 1;
+        return Math.min(guardCount / (workerCount * 2 / 3), 2);
+    }
+
+    /**
+     * Get the average happiness of the citizens.
+     *
+     * @return the overall happiness.
+     */
+    public double getOverallHappiness()
+    {
+        final long time = getGameTime();
+        if (time >= 0 && time == happinessTime)
+        {
+            return happiness;
+        }
+
+        if (colony.getCitizenManager().getCitizens().isEmpty())
+        {
+            happiness = DEFAULT_HAPPINESS;
+        }
+        else
+        {
+            double happinessSum = 0;
+            for (final ICitizenData citizen : colony.getCitizenManager().getCitizens())
+            {
+                happinessSum += citizen.getCitizenHappinessHandler().getHappiness(citizen.getColony());
+            }
+            happiness = happinessSum / colony.getCitizenManager().getCitizens().size();
+        }
+        happinessTime = time;
+        return happiness;
+    }
+
+    /**
+     * Collect the citizen counts if they weren't collected this tick yet.
+     */
+    private void refreshCounts()
+    {
+        final long time = getGameTime();
+        if (time >= 0 && time == countTime)
+        {
+            return;
+        }
+
+        citizens = 0;
+        unemployed = 0;
+        homeless = 0;
+        sick = 0;
+        hungry = 0;
+        guards = 0;
+        for (final ICitizenData citizen : colony.getCitizenManager().getCitizens())
+        {
+            citizens++;
+            if (!citizen.isChild() && citizen.getJob() == null)
+            {
+                unemployed++;
+            }
+
+            if (citizen.getHomeBuilding() == null)
+            {
+                homeless++;
+            }
+
+            if (citizen.getEntity().isPresent() && citizen.getEntity().get().getCitizenDiseaseHandler().isSick())
+            {
+                sick++;
+            }
+
+            if (citizen.getSaturation() <= 1)
+            {
+                hungry++;
+            }
+
+            if (citizen.getJob() instanceof AbstractJobGuard)
+            {
+                guards++;
+            }
+        }
+        countTime = time;
+    }
+
+    /**
+     * Get the game time of the colony world.
+     *
+     * @return the time, or -1 if the world isn't loaded.
+     */
+    private long getGameTime()
+    {
+        return colony.getWorld() == null ? -1 : colony.getWorld().getGameTime();
+    }
+}
@@ -5,10 +5,13 @@ import com.minecolonies.api.blocks.AbstractBlockHut;
 import com.minecolonies.api.colony.*;
 import com.minecolonies.api.colony.buildings.IBuilding;
 import com.minecolonies.api.colony.buildings.views.IBuildingView;
+import com.minecolonies.api.colony.colonyEvents.EventStatus;
+import com.minecolonies.api.colony.colonyEvents.IColonyEvent;
 import com.minecolonies.api.colony.permissions.Player;
 import com.minecolonies.api.compatibility.CompatibilityManager;
 import com.minecolonies.api.compatibility.ICompatibilityManager;
 import com.minecolonies.api.crafting.IRecipeManager;
+import com.minecolonies.api.network.IMessage;
 import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.Log;
 import com.minecolonies.apiimp.initializer.ModTagsInitializer;
@@ -17,6 +20,7 @@ import com.minecolonies.coremod.Network;
 import com.minecolonies.coremod.colony.requestsystem.management.manager.StandardRecipeManager;
 import com.minecolonies.coremod.network.messages.client.colony.ColonyViewRemoveMessage;
 import com.minecolonies.coremod.util.BackUpHelper;
+import com.minecolonies.coremod.util.ChunkClaimIndex;
 import com.minecolonies.coremod.util.ChunkDataHelper;
 import net.minecraft.client.Minecraft;
 import net.minecraft.entity.player.PlayerEntity;
@@ -187,6 +191,12 @@ public final class ColonyManager implements IColonyManager
                 Log.getLogger().warn("Can't unregister the event handler twice");
             }
 
+            for (final IColonyEvent event : colony.getEventManager().getEvents().values())
+            {
+                event.setStatus(EventStatus.CANCELED);
+            }
+            colony.getEventManager().onColonyUnload();
+
             Log.getLogger().info("Deleting colony: " + colony.getID());
 
             final IColonyManagerCapability cap = world.getCapability(COLONY_MANAGER_CAP, null).resolve().orElse(null);
@@ -281,8 +291,7 @@ public final class ColonyManager implements IColonyManager
         {
             return null;
         }
-        final Chunk centralChunk = w.getChunkAt(pos);
-        final int id = centralChunk.getCapability(CLOSE_COLONY_CAP, null).map(IColonyTagCapability::getOwningColony).orElse(0);
+        final int id = getOwningColonyId(w, pos);
         if (id == 0)
         {
             return null;
@@ -388,9 +397,7 @@ public final class ColonyManager implements IColonyManager
      */
     private IColonyView getColonyView(@NotNull final World w, @NotNull final BlockPos pos)
     {
-        final Chunk centralChunk = w.getChunkAt(pos);
-
-        final int id = centralChunk.getCapability(CLOSE_COLONY_CAP, null).map(IColonyTagCapability::getOwningColony).orElse(0);
+        final int id = getOwningColonyId(w, pos);
         if (id == 0)
         {
             return null;
@@ -714,7 +721,7 @@ public final class ColonyManager implements IColonyManager
         IColonyView view = getColonyView(colonyId, dim);
         if (view == null)
         {
-            view = ColonyView.createFromNetwork(colonyId);
+            view = ColonyView.createFromNetwork(colonyId, dim);
             if (colonyViews.containsKey(dim))
             {
                 colonyViews.get(dim).add(view);
@@ -726,7 +733,11 @@ public final class ColonyManager implements IColonyManager
                 colonyViews.put(dim, list);
             }
         }
-        view.handleColonyViewMessage(colonyData, world, isNewSubscription);
+        final IMessage response = view.handleColonyViewMessage(colonyData, world, isNewSubscription);
+        if (response != null)
+        {
+            Network.getNetwork().sendToServer(response);
+        }
     }
 
     @Override
@@ -840,8 +851,27 @@ public final class ColonyManager implements IColonyManager
     @Override
     public boolean isCoordinateInAnyColony(@NotNull final World world, final BlockPos pos)
     {
-        final Chunk centralChunk = world.getChunkAt(pos);
-        return centralChunk.getCapability(CLOSE_COLONY_CAP, null).map(IColonyTagCapability::getOwningColony).orElse(0) != 0;
+        return getOwningColonyId(world, pos) != 0;
+    }
+
+    /**
+     * Get the id of the colony owning the chunk at a position. Loaded chunks on the server are answered from the claim index, others from the chunk capability.
+     *
+     * @param w   the world.
+     * @param pos the position.
+     * @return the colony id or 0 if not owned.
+     */
+    private static int getOwningColonyId(@NotNull final World w, @NotNull final BlockPos pos)
+    {
+        if (!w.isRemote)
+        {
+            final int id = ChunkClaimIndex.getOwningColony(w, pos);
+            if (id != ChunkClaimIndex.UNKNOWN)
+            {
+                return id;
+            }
+        }
+        return w.getChunkAt(pos).getCapability(CLOSE_COLONY_CAP, null).map(IColonyTagCapability::getOwningColony).orElse(0);
     }
 
     @Override
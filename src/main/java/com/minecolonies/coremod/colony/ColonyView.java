@@ -28,6 +28,7 @@ import com.minecolonies.coremod.colony.requestsystem.management.manager.Standard
 import com.minecolonies.coremod.colony.workorders.AbstractWorkOrder;
 import com.minecolonies.coremod.network.messages.PermissionsMessage;
 import com.minecolonies.coremod.network.messages.server.colony.ColonyFlagChangeMessage;
+import com.minecolonies.coremod.network.messages.server.colony.ColonyViewResyncMessage;
 import com.minecolonies.coremod.network.messages.server.colony.TownHallRenameMessage;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
@@ -68,6 +69,20 @@ public final class ColonyView implements IColonyView
      */
     private static final int REQUEST_MANAGER_MAX_SIZE = 700000;
 
+    /**
+     * Sections of the colony view network data, serialized separately so unchanged sections can be left out of an update.
+     */
+    public static final int SECTION_GENERAL           = 0;
+    public static final int SECTION_FREE_INTERACTIONS = 1;
+    public static final int SECTION_WAYPOINTS         = 2;
+    public static final int SECTION_REQUESTS          = 3;
+    public static final int SECTION_RAID_SPAWNS       = 4;
+    public static final int SECTION_FLAG              = 5;
+    public static final int SECTION_DIPLOMACY         = 6;
+    public static final int SECTION_RESEARCH          = 7;
+    public static final int SECTION_TICKETS           = 8;
+    public static final int SECTION_COUNT             = 9;
+
     //  General Attributes
     private final int                            id;
     private final Map<Integer, WorkOrderView>    workOrders  = new HashMap<>();
@@ -212,6 +227,11 @@ public final class ColonyView implements IColonyView
     private boolean   spiesEnabled;
     private Set<Long> ticketedChunks = new HashSet<>();
 
+    /**
+     * The version of the colony view data last received, -1 if none was received yet.
+     */
+    private int viewVersion = -1;
+
     /**
      * Base constructor for a colony.
      *
@@ -226,98 +246,136 @@ public final class ColonyView implements IColonyView
     /**
      * Create a ColonyView given a UUID and CompoundNBT.
      *
-     * @param id Id of the colony view.
+     * @param id        Id of the colony view.
+     * @param dimension the dimension of the colony.
      * @return the new colony view.
      */
     @NotNull
-    public static ColonyView createFromNetwork(final int id)
+    public static ColonyView createFromNetwork(final int id, final RegistryKey<World> dimension)
     {
-        return new ColonyView(id);
+        final ColonyView view = new ColonyView(id);
+        view.dimensionId = dimension;
+        return view;
     }
 
     /**
-     * Populate an NBT compound for a network packet representing a ColonyView.
+     * Populate a buffer for a network packet with one section of the data of a ColonyView.
      *
      * @param colony            Colony to write data about.
+     * @param section           the section to write, one of the SECTION_ constants.
      * @param buf               {@link PacketBuffer} to write data in.
      * @param hasNewSubscribers true if there is a new subscription.
+     * @return false if the section has no changes to send and nothing was written.
      */
-    public static void serializeNetworkData(@NotNull Colony colony, @NotNull PacketBuffer buf, boolean hasNewSubscribers)
+    public static boolean serializeNetworkSection(@NotNull final Colony colony, final int section, @NotNull final PacketBuffer buf, final boolean hasNewSubscribers)
     {
-        //  General Attributes
-        buf.writeString(colony.getName());
-        buf.writeString(colony.getDimension().getLocation().toString());
-        buf.writeBlockPos(colony.getCenter());
-        buf.writeBoolean(colony.isManualHiring());
-        //  Citizenry
-        buf.writeInt(colony.getCitizenManager().getMaxCitizens());
-        buf.writeInt(colony.getCitizenManager().getPotentialMaxCitizens());
-
-        final Set<Block> freeBlocks = colony.getFreeBlocks();
-        final Set<BlockPos> freePos = colony.getFreePositions();
-        final Map<BlockPos, BlockState> waypoints = colony.getWayPoints();
-
-        buf.writeInt(freeBlocks.size());
-        for (final Block block : freeBlocks)
-        {
-            buf.writeString(block.getRegistryName().toString());
-        }
-
-        buf.writeInt(freePos.size());
-        for (final BlockPos block : freePos)
-        {
-            buf.writeBlockPos(block);
-        }
-        buf.writeDouble(colony.getOverallHappiness());
-        buf.writeBoolean(colony.hasWarehouse());
-
-        buf.writeInt(waypoints.size());
-        for (final Map.Entry<BlockPos, BlockState> block : waypoints.entrySet())
+        switch (section)
         {
-            buf.writeBlockPos(block.getKey());
-            buf.writeInt(Block.getStateId(block.getValue()));
-        }
+            case SECTION_GENERAL:
+                buf.writeString(colony.getName());
+                buf.writeString(colony.getDimension().getLocation().toString());
+                buf.writeBlockPos(colony.getCenter());
+                buf.writeBoolean(colony.isManualHiring());
+                //  Citizenry
+                buf.writeInt(colony.getCitizenManager().getMaxCitizens());
+                buf.writeInt(colony.getCitizenManager().getPotentialMaxCitizens());
+                buf.writeDouble(colony.getOverallHappiness());
+                buf.writeBoolean(colony.hasWarehouse());
+                buf.writeInt(colony.getLastContactInHours());
+                buf.writeBoolean(colony.isManualHousing());
+                buf.writeBoolean(colony.canMoveIn());
+                //  Citizens are sent as a separate packet
+                buf.writeInt(colony.getTeamColonyColor().ordinal());
+                buf.writeBoolean(colony.getProgressManager().isPrintingProgress());
+                buf.writeLong(colony.getMercenaryUseTime());
+                buf.writeString(colony.getStyle());
+                buf.writeBoolean(colony.getRaiderManager().isRaided());
+                buf.writeBoolean(colony.getRaiderManager().areSpiesEnabled());
+                return true;
+            case SECTION_FREE_INTERACTIONS:
+                final Set<Block> freeBlocks = colony.getFreeBlocks();
+                final Set<BlockPos> freePos = colony.getFreePositions();
+
+                buf.writeInt(freeBlocks.size());
+                for (final Block block : freeBlocks)
+                {
+                    buf.writeString(block.getRegistryName().toString());
+                }
 
-        buf.writeInt(colony.getLastContactInHours());
-        buf.writeBoolean(colony.isManualHousing());
-        buf.writeBoolean(colony.canMoveIn());
-        //  Citizens are sent as a separate packet
+                buf.writeInt(freePos.size());
+                for (final BlockPos block : freePos)
+                {
+                    buf.writeBlockPos(block);
+                }
+                return true;
+            case SECTION_WAYPOINTS:
+                final Map<BlockPos, BlockState> waypoints = colony.getWayPoints();
+                buf.writeInt(waypoints.size());
+                for (final Map.Entry<BlockPos, BlockState> block : waypoints.entrySet())
+                {
+                    buf.writeBlockPos(block.getKey());
+                    buf.writeInt(Block.getStateId(block.getValue()));
+                }
+                return true;
+            case SECTION_REQUESTS:
+                if (colony.getRequestManager() == null || (!colony.getRequestManager().isDirty() && !hasNewSubscribers))
+                {
+                    return false;
+                }
 
-        if (colony.getRequestManager() != null && (colony.getRequestManager().isDirty() || hasNewSubscribers))
-        {
-            final int preSize = buf.writerIndex();
-            buf.writeBoolean(true);
-            colony.getRequestManager().serialize(StandardFactoryController.getInstance(), buf);
-            final int postSize = buf.writerIndex();
-            if ((postSize - preSize) >= ColonyView.REQUEST_MANAGER_MAX_SIZE)
-            {
-                Log.getLogger().warn("Colony " + colony.getID() + " has a very big memory imprint, this could be a memory leak, please contact the mod author!");
-            }
-        }
-        else
-        {
-            buf.writeBoolean(false);
-        }
+                final int preSize = buf.writerIndex();
+                colony.getRequestManager().serialize(StandardFactoryController.getInstance(), buf);
+                final int postSize = buf.writerIndex();
+                if ((postSize - preSize) >= ColonyView.REQUEST_MANAGER_MAX_SIZE)
+                {
+                    Log.getLogger().warn("Colony " + colony.getID() + " has a very big memory imprint, this could be a memory leak, please contact the mod author!");
+                }
+                return true;
+            case SECTION_RAID_SPAWNS:
+                buf.writeInt(colony.getRaiderManager().getLastSpawnPoints().size());
+                for (final BlockPos block : colony.getRaiderManager().getLastSpawnPoints())
+                {
+                    buf.writeBlockPos(block);
+                }
+                return true;
+            case SECTION_FLAG:
+                CompoundNBT flagNBT = new CompoundNBT();
+                flagNBT.put(TAG_BANNER_PATTERNS, colony.getColonyFlag());
+                buf.writeCompoundTag(flagNBT);
+                return true;
+            case SECTION_DIPLOMACY:
+                serializeDiplomacy(colony, buf);
+                return true;
+            case SECTION_RESEARCH:
+                final CompoundNBT treeTag = new CompoundNBT();
+                colony.getResearchManager().writeToNBT(treeTag);
+                buf.writeCompoundTag(treeTag);
+                return true;
+            case SECTION_TICKETS:
+                if (!hasNewSubscribers && !colony.isTicketedChunksDirty())
+                {
+                    return false;
+                }
 
-        buf.writeInt(colony.getRaiderManager().getLastSpawnPoints().size());
-        for (final BlockPos block : colony.getRaiderManager().getLastSpawnPoints())
-        {
-            buf.writeBlockPos(block);
+                buf.writeInt(colony.getTicketedChunks().size());
+                for (final long pos : colony.getTicketedChunks())
+                {
+                    buf.writeLong(pos);
+                }
+                return true;
+            default:
+                return false;
         }
+    }
 
-        buf.writeInt(colony.getTeamColonyColor().ordinal());
-
-        CompoundNBT flagNBT = new CompoundNBT();
-        flagNBT.put(TAG_BANNER_PATTERNS, colony.getColonyFlag());
-        buf.writeCompoundTag(flagNBT);
-
-        buf.writeBoolean(colony.getProgressManager().isPrintingProgress());
-
-        buf.writeLong(colony.getMercenaryUseTime());
-
-        buf.writeString(colony.getStyle());
-        buf.writeBoolean(colony.getRaiderManager().isRaided());
-        buf.writeBoolean(colony.getRaiderManager().areSpiesEnabled());
+    /**
+     * Write the allies and feuds of the colony.
+     *
+     * @param colony Colony to write data about.
+     * @param buf    {@link PacketBuffer} to write data in.
+     */
+    private static void serializeDiplomacy(@NotNull final Colony colony, @NotNull final PacketBuffer buf)
+    {
         // ToDo: rework ally system
         final List<IColony> allies = new ArrayList<>();
         for (final Player player : colony.getPermissions().getFilteredPlayers(Rank::isColonyManager))
@@ -369,23 +427,6 @@ public final class ColonyView implements IColonyView
             buf.writeInt(col.getID());
             buf.writeString(col.getDimension().getLocation().toString());
         }
-
-        final CompoundNBT treeTag = new CompoundNBT();
-        colony.getResearchManager().writeToNBT(treeTag);
-        buf.writeCompoundTag(treeTag);
-
-        if (hasNewSubscribers || colony.isTicketedChunksDirty())
-        {
-            buf.writeInt(colony.getTicketedChunks().size());
-            for (final long pos : colony.getTicketedChunks())
-            {
-                buf.writeLong(pos);
-            }
-        }
-        else
-        {
-            buf.writeInt(-1);
-        }
     }
 
     /**
@@ -767,21 +808,20 @@ public final class ColonyView implements IColonyView
      *
      * @param buf               {@link PacketBuffer} to read from.
      * @param isNewSubscription Whether this is a new subscription of not.
-     * @return null == no response.
+     * @return null == no response, else a request to resend the full view.
      */
     @Override
     @Nullable
     public IMessage handleColonyViewMessage(@NotNull final PacketBuffer buf, @NotNull final World world, final boolean isNewSubscription)
     {
         this.world = world;
-        //  General Attributes
-        name = buf.readString(32767);
-        dimensionId = RegistryKey.getOrCreateKey(Registry.WORLD_KEY, new ResourceLocation(buf.readString(32767)));
-        center = buf.readBlockPos();
-        manualHiring = buf.readBoolean();
-        //  Citizenry
-        citizenCount = buf.readInt();
-        citizenCountWithEmptyGuardTowers = buf.readInt();
+        final int version = buf.readInt();
+        if (!isNewSubscription && buf.readInt() != viewVersion)
+        {
+            // Missed an update, the delta doesn't apply to the data we have.
+            return new ColonyViewResyncMessage(this);
+        }
+        viewVersion = version;
 
         if (isNewSubscription)
         {
@@ -790,86 +830,117 @@ public final class ColonyView implements IColonyView
             buildings.clear();
         }
 
-        freePositions.clear();
-        freeBlocks.clear();
-        wayPoints.clear();
-        lastSpawnPoints.clear();
-
-        final int blockListSize = buf.readInt();
-        for (int i = 0; i < blockListSize; i++)
-        {
-            freeBlocks.add(ForgeRegistries.BLOCKS.getValue(new ResourceLocation((buf.readString(32767)))));
-        }
-
-        final int posListSize = buf.readInt();
-        for (int i = 0; i < posListSize; i++)
-        {
-            freePositions.add(buf.readBlockPos());
-        }
-        this.overallHappiness = buf.readDouble();
-        this.hasColonyWarehouse = buf.readBoolean();
-
-        final int wayPointListSize = buf.readInt();
-        for (int i = 0; i < wayPointListSize; i++)
-        {
-            wayPoints.put(buf.readBlockPos(), Block.getStateById(buf.readInt()));
-        }
-        this.lastContactInHours = buf.readInt();
-        this.manualHousing = buf.readBoolean();
-        this.moveIn = buf.readBoolean();
-
-        if (buf.readBoolean())
-        {
-            this.requestManager = new StandardRequestManager(this);
-            this.requestManager.deserialize(StandardFactoryController.getInstance(), buf);
-        }
-
-        final int barbSpawnListSize = buf.readInt();
-        for (int i = 0; i < barbSpawnListSize; i++)
-        {
-            lastSpawnPoints.add(buf.readBlockPos());
-        }
-        Collections.reverse(lastSpawnPoints);
-
-        this.teamColonyColor = TextFormatting.values()[buf.readInt()];
-        this.colonyFlag = buf.readCompoundTag().getList(TAG_BANNER_PATTERNS, Constants.TAG_COMPOUND);
-
-        this.printProgress = buf.readBoolean();
-
-        this.mercenaryLastUseTime = buf.readLong();
-
-        this.style = buf.readString(32767);
-
-        this.isUnderRaid = buf.readBoolean();
-        this.spiesEnabled = buf.readBoolean();
-
-        this.allies = new ArrayList<>();
-        this.feuds = new ArrayList<>();
-
-        final int noOfAllies = buf.readInt();
-        for (int i = 0; i < noOfAllies; i++)
+        final int sections = buf.readInt();
+        for (int section = 0; section < SECTION_COUNT; section++)
         {
-            allies.add(new CompactColonyReference(buf.readString(32767), buf.readBlockPos(), buf.readInt(), buf.readBoolean(), RegistryKey.getOrCreateKey(Registry.WORLD_KEY, new ResourceLocation(buf.readString(32767)))));
+            if ((sections & (1 << section)) != 0)
+            {
+                deserializeNetworkSection(section, buf);
+            }
         }
+        return null;
+    }
 
-        final int noOfFeuds = buf.readInt();
-        for (int i = 0; i < noOfFeuds; i++)
+    /**
+     * Read one section of the colony view data.
+     *
+     * @param section the section to read, one of the SECTION_ constants.
+     * @param buf     {@link PacketBuffer} to read from.
+     */
+    private void deserializeNetworkSection(final int section, @NotNull final PacketBuffer buf)
+    {
+        switch (section)
         {
-            feuds.add(new CompactColonyReference(buf.readString(32767), buf.readBlockPos(), buf.readInt(), false, RegistryKey.getOrCreateKey(Registry.WORLD_KEY, new ResourceLocation(buf.readString(32767)))));
-        }
+            case SECTION_GENERAL:
+                name = buf.readString(32767);
+                dimensionId = RegistryKey.getOrCreateKey(Registry.WORLD_KEY, new ResourceLocation(buf.readString(32767)));
+                center = buf.readBlockPos();
+                manualHiring = buf.readBoolean();
+                //  Citizenry
+                citizenCount = buf.readInt();
+                citizenCountWithEmptyGuardTowers = buf.readInt();
+                this.overallHappiness = buf.readDouble();
+                this.hasColonyWarehouse = buf.readBoolean();
+                this.lastContactInHours = buf.readInt();
+                this.manualHousing = buf.readBoolean();
+                this.moveIn = buf.readBoolean();
+                this.teamColonyColor = TextFormatting.values()[buf.readInt()];
+                this.printProgress = buf.readBoolean();
+                this.mercenaryLastUseTime = buf.readLong();
+                this.style = buf.readString(32767);
+                this.isUnderRaid = buf.readBoolean();
+                this.spiesEnabled = buf.readBoolean();
+                break;
+            case SECTION_FREE_INTERACTIONS:
+                freePositions.clear();
+                freeBlocks.clear();
+
+                final int blockListSize = buf.readInt();
+                for (int i = 0; i < blockListSize; i++)
+                {
+                    freeBlocks.add(ForgeRegistries.BLOCKS.getValue(new ResourceLocation((buf.readString(32767)))));
+                }
 
-        this.manager.readFromNBT(buf.readCompoundTag());
+                final int posListSize = buf.readInt();
+                for (int i = 0; i < posListSize; i++)
+                {
+                    freePositions.add(buf.readBlockPos());
+                }
+                break;
+            case SECTION_WAYPOINTS:
+                wayPoints.clear();
+                final int wayPointListSize = buf.readInt();
+                for (int i = 0; i < wayPointListSize; i++)
+                {
+                    wayPoints.put(buf.readBlockPos(), Block.getStateById(buf.readInt()));
+                }
+                break;
+            case SECTION_REQUESTS:
+                this.requestManager = new StandardRequestManager(this);
+                this.requestManager.deserialize(StandardFactoryController.getInstance(), buf);
+                break;
+            case SECTION_RAID_SPAWNS:
+                lastSpawnPoints.clear();
+                final int barbSpawnListSize = buf.readInt();
+                for (int i = 0; i < barbSpawnListSize; i++)
+                {
+                    lastSpawnPoints.add(buf.readBlockPos());
+                }
+                Collections.reverse(lastSpawnPoints);
+                break;
+            case SECTION_FLAG:
+                this.colonyFlag = buf.readCompoundTag().getList(TAG_BANNER_PATTERNS, Constants.TAG_COMPOUND);
+                break;
+            case SECTION_DIPLOMACY:
+                this.allies = new ArrayList<>();
+                this.feuds = new ArrayList<>();
+
+                final int noOfAllies = buf.readInt();
+                for (int i = 0; i < noOfAllies; i++)
+                {
+                    allies.add(new CompactColonyReference(buf.readString(32767), buf.readBlockPos(), buf.readInt(), buf.readBoolean(), RegistryKey.getOrCreateKey(Registry.WORLD_KEY, new ResourceLocation(buf.readString(32767)))));
+                }
 
-        final int ticketChunkCount = buf.readInt();
-        if (ticketChunkCount != -1)
-        {
-            ticketedChunks = new HashSet<>(ticketChunkCount);
-            for (int i = 0; i < ticketChunkCount; i++)
-            {
-                ticketedChunks.add(buf.readLong());
-            }
+                final int noOfFeuds = buf.readInt();
+                for (int i = 0; i < noOfFeuds; i++)
+                {
+                    feuds.add(new CompactColonyReference(buf.readString(32767), buf.readBlockPos(), buf.readInt(), false, RegistryKey.getOrCreateKey(Registry.WORLD_KEY, new ResourceLocation(buf.readString(32767)))));
+                }
+                break;
+            case SECTION_RESEARCH:
+                this.manager.readFromNBT(buf.readCompoundTag());
+                break;
+            case SECTION_TICKETS:
+                final int ticketChunkCount = buf.readInt();
+                ticketedChunks = new HashSet<>(ticketChunkCount);
+                for (int i = 0; i < ticketChunkCount; i++)
+                {
+                    ticketedChunks.add(buf.readLong());
+                }
+                break;
+            default:
+                break;
         }
-        return null;
     }
 
     /**
@@ -140,6 +140,11 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer
      */
     protected List<IBuildingModule> modules = new ArrayList<>();
 
+    /**
+     * The modules of this building by every class and interface they implement, in registration order.
+     */
+    private final Map<Class<?>, ImmutableList<IBuildingModule>> modulesByType = new HashMap<>();
+
     /**
      * Constructor for a AbstractBuilding.
      *
@@ -157,26 +162,17 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer
     @Override
     public boolean hasModule(final Class<? extends IBuildingModule> clazz)
     {
-        for (final IBuildingModule module : modules)
-        {
-            if (clazz.isInstance(module))
-            {
-                return true;
-            }
-        }
-        return false;
+        return modulesByType.containsKey(clazz);
     }
 
     @NotNull
     @Override
     public <T extends IBuildingModule> T getFirstModuleOccurance(final Class<T> clazz)
     {
-        for (final IBuildingModule module : modules)
+        final List<IBuildingModule> matching = modulesByType.get(clazz);
+        if (matching != null)
         {
-            if (clazz.isInstance(module))
-            {
-                return (T) module;
-            }
+            return (T) matching.get(0);
         }
 
         throw new IllegalStateException("The module of class: " + clazz.toString() + "should never be null!");
@@ -186,23 +182,17 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer
     @Override
     public <T extends IBuildingModule> Optional<T> getFirstOptionalModuleOccurance(final Class<T> clazz)
     {
-        for (final IBuildingModule module : modules)
-        {
-            if (clazz.isInstance(module))
-            {
-                return Optional.of((T) module);
-            }
-        }
-        return Optional.empty();
+        final List<IBuildingModule> matching = modulesByType.get(clazz);
+        return matching == null ? Optional.empty() : Optional.of((T) matching.get(0));
     }
 
     @NotNull
     @Override
     public <T extends IBuildingModule> T getModuleMatching(final Class<T> clazz, final Predicate<? super T> modulePredicate)
     {
-        for (final IBuildingModule module : modules)
+        for (final IBuildingModule module : modulesByType.getOrDefault(clazz, ImmutableList.of()))
         {
-            if (clazz.isInstance(module) && modulePredicate.test((T) module))
+            if (modulePredicate.test((T) module))
             {
                 return (T) module;
             }
@@ -214,16 +204,40 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer
     @Override
     public <T extends IBuildingModule> List<T> getModules(final Class<T> clazz)
     {
-        return this.modules.stream()
-                .filter(clazz::isInstance)
-                .map(c -> (T) c)
-                .collect(Collectors.toList());
+        return (List<T>) (List<?>) modulesByType.getOrDefault(clazz, ImmutableList.of());
     }
 
     @Override
     public void registerModule(@NotNull final IBuildingModule module)
     {
         this.modules.add(module);
+
+        final Set<Class<?>> types = new HashSet<>();
+        collectTypes(module.getClass(), types);
+        for (final Class<?> type : types)
+        {
+            modulesByType.put(type, ImmutableList.<IBuildingModule>builder().addAll(modulesByType.getOrDefault(type, ImmutableList.of())).add(module).build());
+        }
+    }
+
+    /**
+     * Collect a class and all its super classes and interfaces.
+     *
+     * @param type  the class.
+     * @param types the set to add the types to.
+     */
+    private static void collectTypes(@Nullable final Class<?> type, final Set<Class<?>> types)
+    {
+        if (type == null || type == Object.class || !types.add(type))
+        {
+            return;
+        }
+
+        collectTypes(type.getSuperclass(), types);
+        for (final Class<?> anInterface : type.getInterfaces())
+        {
+            collectTypes(anInterface, types);
+        }
     }
 
     /**
@@ -25,6 +25,7 @@ import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
 import com.minecolonies.api.entity.citizen.Skill;
 import com.minecolonies.api.inventory.container.ContainerCrafting;
 import com.minecolonies.api.items.ModTags;
+import com.minecolonies.api.research.effects.ResearchEffectIds;
 import com.minecolonies.api.util.InventoryUtils;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.api.util.Log;
@@ -33,6 +34,7 @@ import com.minecolonies.api.util.constant.TypeConstants;
 import com.minecolonies.coremod.Network;
 import com.minecolonies.coremod.colony.buildings.modules.settings.BoolSetting;
 import com.minecolonies.coremod.colony.buildings.modules.settings.SettingKey;
+import com.minecolonies.coremod.colony.buildings.utils.RecipeOutputIndex;
 import com.minecolonies.coremod.colony.buildings.views.AbstractBuildingView;
 import com.minecolonies.coremod.colony.buildings.workerbuildings.BuildingBuilder;
 import com.minecolonies.coremod.colony.crafting.CustomRecipe;
@@ -84,6 +86,11 @@ import static net.minecraftforge.items.CapabilityItemHandler.ITEM_HANDLER_CAPABI
  */
 public abstract class AbstractBuildingWorker extends AbstractBuilding implements IBuildingWorker
 {
+    /**
+     * The research effect id of the recipes effect.
+     */
+    private static final int RECIPES_EFFECT_ID = ResearchEffectIds.getId(RECIPES);
+
     /**
      * Breeding setting.
      */
@@ -109,6 +116,26 @@ public abstract class AbstractBuildingWorker extends AbstractBuilding implements
      */
     protected final List<IToken<?>> recipes = new ArrayList<>();
 
+    /**
+     * Index of the outputs of the recipes, built from the recipe list.
+     */
+    private final RecipeOutputIndex recipeOutputIndex = new RecipeOutputIndex();
+
+    /**
+     * Ticks a cached warehouse count is reused.
+     */
+    private static final int WAREHOUSE_COUNT_CACHE_TICKS = 100;
+
+    /**
+     * Cached counts of items in the warehouses, used to choose between recipes.
+     */
+    private final Map<ItemStorage, Integer> warehouseCountCache = new HashMap<>();
+
+    /**
+     * The game time the warehouse counts were cached at.
+     */
+    private long warehouseCountCacheTime = -1;
+
     /**
      * The hiring mode of this particular building, by default overriden by colony mode.
      */
@@ -198,17 +225,13 @@ public abstract class AbstractBuildingWorker extends AbstractBuilding implements
         final HashMap<IRecipeStorage, Integer> candidates = new HashMap<>();
 
         //Scan through and collect all possible recipes that could fulfill this, taking special note of the first one
-        for (final IToken<?> token : recipes)
+        for (final IRecipeStorage storage : getMatchingRecipes(stackPredicate))
         {
-            final IRecipeStorage storage = IColonyManager.getInstance().getRecipeManager().getRecipes().get(token);
-            if (storage != null && (stackPredicate.test(storage.getPrimaryOutput()) || storage.getAlternateOutputs().stream().anyMatch(i -> stackPredicate.test(i))))
+            if(foundRecipe == null)
             {
-                if(foundRecipe == null)
-                {
-                    foundRecipe = storage;
-                }
-                candidates.put(storage, 0);
+                foundRecipe = storage;
             }
+            candidates.put(storage, 0);
         }
 
         //If we have more than one possible recipe, let's choose the one with the most stock in the warehouses
@@ -231,9 +254,45 @@ public abstract class AbstractBuildingWorker extends AbstractBuilding implements
     }
 
     /**
-     * Get the count of items in all the warehouses
+     * Get the recipes of the building with a primary or alternate output matching a predicate.
+     *
+     * @param stackPredicate the predicate.
+     * @return the matching recipes, in the order of the recipe list.
+     */
+    protected List<IRecipeStorage> getMatchingRecipes(final Predicate<ItemStack> stackPredicate)
+    {
+        return recipeOutputIndex.getMatchingRecipes(recipes, stackPredicate);
+    }
+
+    /**
+     * Mark the recipe list as changed, called whenever recipes are added, removed or moved.
+     */
+    protected void markRecipesDirty()
+    {
+        recipeOutputIndex.markDirty();
+    }
+
+    /**
+     * Get the count of items in all the warehouses, reusing counts of the last few seconds.
      */
     protected int getWarehouseCount(ItemStorage item)
+    {
+        final long time = colony.getWorld() == null ? -1 : colony.getWorld().getGameTime();
+        if (time < 0 || time - warehouseCountCacheTime > WAREHOUSE_COUNT_CACHE_TICKS)
+        {
+            warehouseCountCache.clear();
+            warehouseCountCacheTime = time;
+        }
+        return warehouseCountCache.computeIfAbsent(item, this::countInWarehouses);
+    }
+
+    /**
+     * Count the items in all the warehouses.
+     *
+     * @param item the item to count.
+     * @return the count.
+     */
+    private int countInWarehouses(final ItemStorage item)
     {
         int count = 0;
         final List<IWareHouse> wareHouses = colony.getBuildingManager().getWareHouses();
@@ -260,17 +319,13 @@ public abstract class AbstractBuildingWorker extends AbstractBuilding implements
     @Override
     public IRecipeStorage getFirstFullFillableRecipe(final Predicate<ItemStack> stackPredicate, final int count, final boolean considerReservation)
     {
-        for (final IToken<?> token : recipes)
+        for (final IRecipeStorage storage : getMatchingRecipes(stackPredicate))
         {
-            final IRecipeStorage storage = IColonyManager.getInstance().getRecipeManager().getRecipes().get(token);
-            if (storage != null && (stackPredicate.test(storage.getPrimaryOutput()) || storage.getAlternateOutputs().stream().anyMatch(i -> stackPredicate.test(i))))
+            final List<IItemHandler> handlers = getHandlers();
+            IRecipeStorage toTest = storage.getRecipeType() instanceof MultiOutputRecipe ? storage.getClassicForMultiOutput(stackPredicate) : storage;
+            if (toTest.canFullFillRecipe(count, Collections.emptyMap(), handlers.toArray(new IItemHandler[0])))
             {
-                final List<IItemHandler> handlers = getHandlers();
-                IRecipeStorage toTest = storage.getRecipeType() instanceof MultiOutputRecipe ? storage.getClassicForMultiOutput(stackPredicate) : storage;
-                if (toTest.canFullFillRecipe(count, Collections.emptyMap(), handlers.toArray(new IItemHandler[0])))
-                {
-                    return toTest;
-                }
+                return toTest;
             }
         }
         return null;
@@ -310,6 +365,7 @@ public abstract class AbstractBuildingWorker extends AbstractBuilding implements
             final IToken<?> storage = recipes.get(i);
             recipes.set(i, recipes.get(j));
             recipes.set(j, storage);
+            markRecipesDirty();
         }
     }
 
@@ -469,11 +525,11 @@ public abstract class AbstractBuildingWorker extends AbstractBuilding implements
         final double increase;
         if(canCraftComplexRecipes())
         {
-            increase = (1 + colony.getResearchManager().getResearchEffects().getEffectStrength(RECIPES)) * EXTRA_RECIPE_MULTIPLIER;
+            increase = (1 + colony.getResearchManager().getResearchEffects().getEffectStrength(RECIPES_EFFECT_ID)) * EXTRA_RECIPE_MULTIPLIER;
         }
         else
         {
-            increase = 1 + colony.getResearchManager().getResearchEffects().getEffectStrength(RECIPES);
+            increase = 1 + colony.getResearchManager().getResearchEffects().getEffectStrength(RECIPES_EFFECT_ID);
         }
         return (int) (Math.pow(2, getBuildingLevel()) * increase);
     }
@@ -590,6 +646,7 @@ public abstract class AbstractBuildingWorker extends AbstractBuilding implements
                 IColonyManager.getInstance().getRecipeManager().registerUse(token);
             }
         }
+        markRecipesDirty();
     }
 
     @Override
@@ -679,6 +736,7 @@ public abstract class AbstractBuildingWorker extends AbstractBuilding implements
             {
                 recipes.add(token);
             }
+            markRecipesDirty();
         }
     }
 
@@ -694,6 +752,7 @@ public abstract class AbstractBuildingWorker extends AbstractBuilding implements
             Log.getLogger().warn("Failure to remove recipe, please tell the mod authors about this");
             recipes.clear();
         }
+        markRecipesDirty();
     }
 
     /**
@@ -708,6 +767,7 @@ public abstract class AbstractBuildingWorker extends AbstractBuilding implements
             int oldIndex = recipes.indexOf(oldRecipe);
             recipes.add(oldIndex, newRecipe);
             recipes.remove(oldRecipe);
+            markRecipesDirty();
             markDirty();
         }
     }
@@ -9,6 +9,7 @@ import com.minecolonies.api.colony.requestsystem.requestable.IDeliverable;
 import com.minecolonies.api.colony.requestsystem.requestable.Stack;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
 import com.minecolonies.api.crafting.ItemStorage;
+import com.minecolonies.api.research.effects.ResearchEffectIds;
 import com.minecolonies.api.util.InventoryUtils;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.api.util.WorldUtil;
@@ -31,6 +32,11 @@ import static com.minecolonies.api.util.constant.NbtTagConstants.TAG_QUANTITY;
  */
 public class MinimumStockModule extends AbstractBuildingModule implements IMinimumStockModule, IPersistentModule, ITickingModule, IAltersRequiredItems
 {
+    /**
+     * The research effect id of the minimum stock effect.
+     */
+    private static final int MINIMUM_STOCK_EFFECT_ID = ResearchEffectIds.getId(MINIMUM_STOCK);
+
     /**
      * Minimum stock it can hold per level.
      */
@@ -53,7 +59,7 @@ public class MinimumStockModule extends AbstractBuildingModule implements IMinim
      */
     private int minimumStockSize()
     {
-        final double increase = 1 + building.getColony().getResearchManager().getResearchEffects().getEffectStrength(MINIMUM_STOCK);
+        final double increase = 1 + building.getColony().getResearchManager().getResearchEffects().getEffectStrength(MINIMUM_STOCK_EFFECT_ID);
 
         return (int) (building.getBuildingLevel() * STOCK_PER_LEVEL * increase);
     }
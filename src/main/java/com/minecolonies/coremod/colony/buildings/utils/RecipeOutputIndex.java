@@ -0,0 +1,151 @@
+package com.minecolonies.coremod.colony.buildings.utils;
+
+import com.minecolonies.api.colony.IColonyManager;
+import com.minecolonies.api.colony.requestsystem.token.IToken;
+import com.minecolonies.api.crafting.IRecipeManager;
+import com.minecolonies.api.crafting.IRecipeStorage;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * Index of the outputs of the recipes a worker building knows, by item. Every distinct output stack is tested once per query, instead of resolving every recipe token and
+ * testing its primary and alternate outputs.
+ */
+public class RecipeOutputIndex
+{
+    /**
+     * The distinct output stacks by item.
+     */
+    private final Map<Item, List<Output>> outputs = new HashMap<>();
+
+    /**
+     * The resolved recipes, in the order of the recipe list.
+     */
+    private final List<IRecipeStorage> storages = new ArrayList<>();
+
+    /**
+     * The modification count of the recipe manager the recipes were resolved against.
+     */
+    private int resolvedModificationCount = -1;
+
+    /**
+     * If the recipe list changed since the index was built.
+     */
+    private boolean dirty = true;
+
+    /**
+     * A distinct output stack and the recipes producing it.
+     */
+    private static final class Output
+    {
+        private final ItemStack stack;
+        private final BitSet    recipes = new BitSet();
+
+        private Output(final ItemStack stack)
+        {
+            this.stack = stack;
+        }
+    }
+
+    /**
+     * Mark the index to be built again on the next query, called whenever the recipe list changes.
+     */
+    public void markDirty()
+    {
+        dirty = true;
+    }
+
+    /**
+     * Get the recipes with a primary or alternate output matching a predicate.
+     *
+     * @param recipes   the recipe tokens of the building, in order.
+     * @param predicate the predicate.
+     * @return the matching recipes, in the order of the recipe list.
+     */
+    @NotNull
+    public List<IRecipeStorage> getMatchingRecipes(@NotNull final List<IToken<?>> recipes, @NotNull final Predicate<ItemStack> predicate)
+    {
+        final IRecipeManager recipeManager = IColonyManager.getInstance().getRecipeManager();
+        if (dirty || resolvedModificationCount != recipeManager.getModificationCount())
+        {
+            build(recipes, recipeManager.getRecipes());
+            resolvedModificationCount = recipeManager.getModificationCount();
+        }
+
+        final BitSet matches = new BitSet(storages.size());
+        for (final List<Output> itemOutputs : outputs.values())
+        {
+            for (final Output output : itemOutputs)
+            {
+                if (predicate.test(output.stack))
+                {
+                    matches.or(output.recipes);
+                }
+            }
+        }
+
+        final List<IRecipeStorage> result = new ArrayList<>(matches.cardinality());
+        for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1))
+        {
+            result.add(storages.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * Build the index from the recipe list.
+     *
+     * @param recipes    the recipe tokens of the building, in order.
+     * @param allRecipes the recipes of the recipe manager.
+     */
+    private void build(final List<IToken<?>> recipes, final Map<IToken<?>, IRecipeStorage> allRecipes)
+    {
+        outputs.clear();
+        storages.clear();
+        for (final IToken<?> token : recipes)
+        {
+            final IRecipeStorage storage = allRecipes.get(token);
+            if (storage == null)
+            {
+                continue;
+            }
+
+            final int index = storages.size();
+            storages.add(storage);
+            addOutput(storage.getPrimaryOutput(), index);
+            for (final ItemStack alternate : storage.getAlternateOutputs())
+            {
+                addOutput(alternate, index);
+            }
+        }
+
+        dirty = false;
+    }
+
+    /**
+     * Add an output of a recipe, merging it with an equal output stack.
+     *
+     * @param stack the output stack.
+     * @param index the index of the recipe.
+     */
+    private void addOutput(final ItemStack stack, final int index)
+    {
+        final List<Output> itemOutputs = outputs.computeIfAbsent(stack.getItem(), item -> new ArrayList<>());
+        for (final Output output : itemOutputs)
+        {
+            if (ItemStack.areItemStacksEqual(output.stack, stack))
+            {
+                output.recipes.set(index);
+                return;
+            }
+        }
+
+        final Output output = new Output(stack);
+        output.recipes.set(index);
+        itemOutputs.add(output);
+    }
+}
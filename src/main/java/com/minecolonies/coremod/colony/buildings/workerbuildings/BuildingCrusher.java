@@ -1,6 +1,5 @@
 package com.minecolonies.coremod.colony.buildings.workerbuildings;
 
-import com.google.common.collect.ImmutableMap;
 import com.ldtteam.blockout.views.Window;
 import com.minecolonies.api.colony.ICitizenData;
 import com.minecolonies.api.colony.IColony;
@@ -96,11 +95,12 @@ public class BuildingCrusher extends AbstractBuildingCrafter
     private void loadCrusherMode()
     {
         this.recipes.clear();
+        markRecipesDirty();
         checkForWorkerSpecificRecipes();
 
         this.crusherRecipes.clear();
 
-        final ImmutableMap<IToken<?>, IRecipeStorage> recipes = IColonyManager.getInstance().getRecipeManager().getRecipes();
+        final Map<IToken<?>, IRecipeStorage> recipes = IColonyManager.getInstance().getRecipeManager().getRecipes();
         for (final IToken<?> token : this.recipes)
         {
             final IRecipeStorage storage = recipes.get(token);
@@ -15,6 +15,7 @@ import com.minecolonies.api.util.WorldUtil;
 import com.minecolonies.api.util.constant.NbtTagConstants;
 import com.minecolonies.coremod.colony.colonyEvents.raidEvents.barbarianEvent.Horde;
 import com.minecolonies.coremod.colony.colonyEvents.raidEvents.pirateEvent.ShipBasedRaiderUtils;
+import com.minecolonies.coremod.entity.pathfinding.RaidFlowField;
 import com.minecolonies.coremod.network.messages.client.PlayAudioMessage;
 import net.minecraft.block.Blocks;
 import net.minecraft.entity.Entity;
@@ -120,6 +121,11 @@ public abstract class HordeRaidEvent implements IColonyRaidEvent, IColonyCampFir
      */
     private int campFireTime = 0;
 
+    /**
+     * The flow field towards the colony buildings from the spawn point, shared by all raiders.
+     */
+    private RaidFlowField flowField;
+
     public HordeRaidEvent(IColony colony)
     {
         this.colony = colony;
@@ -262,12 +268,24 @@ public abstract class HordeRaidEvent implements IColonyRaidEvent, IColonyCampFir
         raidBar.setVisible(false);
         raidBar.removeAllPlayers();
 
+        onUnload();
+
         if (horde.hordeSize > 0)
         {
             LanguageHandler.sendPlayersMessage(colony.getImportantMessageEntityPlayers(), ALL_BARBARIANS_KILLED_MESSAGE, colony.getName());
         }
     }
 
+    @Override
+    public void onUnload()
+    {
+        if (flowField != null)
+        {
+            flowField.discard();
+            flowField = null;
+        }
+    }
+
     @Override
     public void onNightFall()
     {
@@ -331,6 +349,20 @@ public abstract class HordeRaidEvent implements IColonyRaidEvent, IColonyCampFir
         PlayAudioMessage.sendToAll(getColony(), false, false, audio);
     }
 
+    /**
+     * Get the flow field towards the colony buildings, created on first use. It is not saved and computed again after a reload.
+     *
+     * @return the flow field, or null if the raid has no spawn point or already ended.
+     */
+    public RaidFlowField getFlowField()
+    {
+        if (flowField == null && spawnPoint != null && status != EventStatus.DONE && status != EventStatus.CANCELED && colony.getWorld() != null)
+        {
+            flowField = new RaidFlowField(colony, spawnPoint);
+        }
+        return flowField;
+    }
+
     /**
      * Get the assigned colony.
      *
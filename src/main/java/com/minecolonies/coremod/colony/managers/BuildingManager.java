@@ -747,11 +747,16 @@ public class BuildingManager implements IBuildingManager
                 players.addAll(closeSubscribers);
             }
             players.addAll(newSubscribers);
+            if (players.isEmpty())
+            {
+                return;
+            }
+
             for (@NotNull final IBuilding building : buildings.values())
             {
                 if (building.isDirty() || !newSubscribers.isEmpty())
                 {
-                    players.forEach(player -> Network.getNetwork().sendToPlayer(new ColonyViewBuildingViewMessage(building), player));
+                    Network.getNetwork().sendToPlayers(new ColonyViewBuildingViewMessage(building), players);
                 }
             }
         }
@@ -773,11 +778,16 @@ public class BuildingManager implements IBuildingManager
                 players.addAll(closeSubscribers);
             }
             players.addAll(newSubscribers);
+            if (players.isEmpty())
+            {
+                return;
+            }
+
             for (final IBuilding building : buildings.values())
             {
                 if (building instanceof BuildingFarmer)
                 {
-                    players.forEach(player -> Network.getNetwork().sendToPlayer(new ColonyViewBuildingViewMessage(building), player));
+                    Network.getNetwork().sendToPlayers(new ColonyViewBuildingViewMessage(building), players);
                 }
             }
         }
@@ -210,13 +210,18 @@ public class CitizenManager implements ICitizenManager
                 players.addAll(closeSubscribers);
             }
             players.addAll(newSubscribers);
+            if (players.isEmpty())
+            {
+                return;
+            }
+
             for (@NotNull final ICitizenData citizen : citizens.values())
             {
                 if (citizen.getEntity().isPresent())
                 {
                     if (citizen.isDirty() || !newSubscribers.isEmpty())
                     {
-                        players.forEach(player -> Network.getNetwork().sendToPlayer(new ColonyViewCitizenViewMessage(colony, citizen), player));
+                        Network.getNetwork().sendToPlayers(new ColonyViewCitizenViewMessage(colony, citizen), players);
                     }
                 }
             }
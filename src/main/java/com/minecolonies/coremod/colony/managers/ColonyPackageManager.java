@@ -19,10 +19,7 @@ import net.minecraft.network.PacketBuffer;
 import net.minecraft.world.World;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
+import java.util.*;
 
 import static com.minecolonies.api.util.constant.ColonyConstants.UPDATE_STATE_INTERVAL;
 import static com.minecolonies.api.util.constant.Constants.TICKS_HOUR;
@@ -50,6 +47,16 @@ public class ColonyPackageManager implements IColonyPackageManager
      */
     private boolean isDirty = false;
 
+    /**
+     * Version of the colony view last sent to the subscribers, increased with every update.
+     */
+    private int viewVersion = 0;
+
+    /**
+     * The colony view sections last sent to the subscribers, every close subscriber holds this state.
+     */
+    private final byte[][] sentViewSections = new byte[ColonyView.SECTION_COUNT][];
+
     /**
      * Amount of ticks passed.
      */
@@ -172,20 +179,88 @@ public class ColonyPackageManager implements IColonyPackageManager
     {
         if (isDirty || !newSubscribers.isEmpty())
         {
-            final PacketBuffer colonyPacketBuffer = new PacketBuffer(Unpooled.buffer());
-            ColonyView.serializeNetworkData(colony, colonyPacketBuffer, !newSubscribers.isEmpty());
-            final Set<ServerPlayerEntity> players = new HashSet<>();
-            if (isDirty)
+            final boolean hasNewSubscribers = !newSubscribers.isEmpty();
+            final byte[][] sections = new byte[ColonyView.SECTION_COUNT][];
+            int changedSections = 0;
+            for (int section = 0; section < ColonyView.SECTION_COUNT; section++)
             {
-                players.addAll(closeSubscribers);
+                final PacketBuffer sectionBuffer = new PacketBuffer(Unpooled.buffer());
+                if (ColonyView.serializeNetworkSection(colony, section, sectionBuffer, hasNewSubscribers))
+                {
+                    sections[section] = new byte[sectionBuffer.readableBytes()];
+                    sectionBuffer.readBytes(sections[section]);
+                    if (!Arrays.equals(sections[section], sentViewSections[section]))
+                    {
+                        changedSections |= 1 << section;
+                    }
+                }
             }
-            players.addAll(newSubscribers);
 
-            players.forEach(player -> Network.getNetwork().sendToPlayer(new ColonyViewMessage(colony, colonyPacketBuffer, newSubscribers.contains(player)), player));
+            // Existing subscribers hold the previously sent sections and only need the changed ones.
+            if (changedSections != 0)
+            {
+                final int baseVersion = viewVersion;
+                viewVersion++;
+
+                final Set<ServerPlayerEntity> players = new HashSet<>(closeSubscribers);
+                players.removeAll(newSubscribers);
+                if (!players.isEmpty())
+                {
+                    final PacketBuffer deltaBuffer = new PacketBuffer(Unpooled.buffer());
+                    deltaBuffer.writeInt(viewVersion);
+                    deltaBuffer.writeInt(baseVersion);
+                    writeViewSections(deltaBuffer, sections, changedSections);
+                    Network.getNetwork().sendToPlayers(new ColonyViewMessage(colony, deltaBuffer, false), players);
+                }
+            }
+
+            if (hasNewSubscribers)
+            {
+                int allSections = 0;
+                for (int section = 0; section < ColonyView.SECTION_COUNT; section++)
+                {
+                    if (sections[section] != null)
+                    {
+                        allSections |= 1 << section;
+                    }
+                }
+
+                final PacketBuffer fullBuffer = new PacketBuffer(Unpooled.buffer());
+                fullBuffer.writeInt(viewVersion);
+                writeViewSections(fullBuffer, sections, allSections);
+                Network.getNetwork().sendToPlayers(new ColonyViewMessage(colony, fullBuffer, true), newSubscribers);
+            }
+
+            for (int section = 0; section < ColonyView.SECTION_COUNT; section++)
+            {
+                if (sections[section] != null)
+                {
+                    sentViewSections[section] = sections[section];
+                }
+            }
         }
         colony.getRequestManager().setDirty(false);
     }
 
+    /**
+     * Write the given serialized colony view sections, prefixed by their bit mask.
+     *
+     * @param buf      the buffer to write to.
+     * @param sections the serialized sections by section.
+     * @param mask     the bit mask of the sections to write.
+     */
+    private static void writeViewSections(final PacketBuffer buf, final byte[][] sections, final int mask)
+    {
+        buf.writeInt(mask);
+        for (int section = 0; section < ColonyView.SECTION_COUNT; section++)
+        {
+            if ((mask & (1 << section)) != 0)
+            {
+                buf.writeBytes(sections[section]);
+            }
+        }
+    }
+
     @Override
     public void sendPermissionsPackets()
     {
@@ -221,7 +296,7 @@ public class ColonyPackageManager implements IColonyPackageManager
                     workOrders.add(workOrder);
                 }
             }
-            players.forEach(player -> Network.getNetwork().sendToPlayer(new ColonyViewWorkOrderMessage(colony, workOrders), player));
+            Network.getNetwork().sendToPlayers(new ColonyViewWorkOrderMessage(colony, workOrders), players);
 
             workManager.setDirty(false);
         }
@@ -266,6 +341,15 @@ public class ColonyPackageManager implements IColonyPackageManager
         closeSubscribers.remove(player);
     }
 
+    @Override
+    public void resendColonyView(@NotNull final ServerPlayerEntity player)
+    {
+        if (closeSubscribers.contains(player) || importantColonyPlayers.contains(player))
+        {
+            newSubscribers.add(player);
+        }
+    }
+
     /**
      * On login we're adding global subscribers.
      */
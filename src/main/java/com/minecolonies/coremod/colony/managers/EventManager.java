@@ -201,6 +201,7 @@ public class EventManager implements IEventManager
             }
             else if (event.getStatus() == CANCELED)
             {
+                event.onUnload();
                 colony.markDirty();
                 iterator.remove();
             }
@@ -211,6 +212,15 @@ public class EventManager implements IEventManager
         }
     }
 
+    @Override
+    public void onColonyUnload()
+    {
+        for (final IColonyEvent event : events.values())
+        {
+            event.onUnload();
+        }
+    }
+
     @Override
     public Map<Integer, IColonyEvent> getEvents()
     {
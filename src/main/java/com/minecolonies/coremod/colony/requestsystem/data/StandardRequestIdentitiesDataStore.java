@@ -19,8 +19,7 @@ import net.minecraft.util.Tuple;
 import net.minecraftforge.common.util.Constants;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.*;
 import java.util.stream.Collectors;
 
 import static com.minecolonies.api.util.constant.NbtTagConstants.*;
@@ -33,12 +32,21 @@ public class StandardRequestIdentitiesDataStore implements IRequestIdentitiesDat
     private       IToken<?>                     id;
     private final BiMap<IToken<?>, IRequest<?>> map;
 
+    /**
+     * The request tokens by the id of their requester, rebuilt from the requests on load.
+     */
+    private final Map<IToken<?>, Set<IToken<?>>> requestsByRequester = new HashMap<>();
+
     public StandardRequestIdentitiesDataStore(
       final IToken<?> id,
       final BiMap<IToken<?>, IRequest<?>> map)
     {
         this.id = id;
         this.map = map;
+        for (final IRequest<?> request : map.values())
+        {
+            requestsByRequester.computeIfAbsent(request.getRequester().getId(), k -> new LinkedHashSet<>()).add(request.getId());
+        }
     }
 
     public StandardRequestIdentitiesDataStore()
@@ -47,6 +55,41 @@ public class StandardRequestIdentitiesDataStore implements IRequestIdentitiesDat
         this.map = HashBiMap.create();
     }
 
+    @Override
+    public void addRequest(@NotNull final IRequest<?> request)
+    {
+        map.put(request.getId(), request);
+        requestsByRequester.computeIfAbsent(request.getRequester().getId(), k -> new LinkedHashSet<>()).add(request.getId());
+    }
+
+    @Override
+    public void removeRequest(@NotNull final IToken<?> token)
+    {
+        final IRequest<?> request = map.remove(token);
+        if (request == null)
+        {
+            return;
+        }
+
+        final IToken<?> requesterId = request.getRequester().getId();
+        final Set<IToken<?>> requests = requestsByRequester.get(requesterId);
+        if (requests != null)
+        {
+            requests.remove(token);
+            if (requests.isEmpty())
+            {
+                requestsByRequester.remove(requesterId);
+            }
+        }
+    }
+
+    @Override
+    public Collection<IToken<?>> getRequestsOfRequester(@NotNull final IToken<?> requesterId)
+    {
+        final Set<IToken<?>> requests = requestsByRequester.get(requesterId);
+        return requests == null ? Collections.emptySet() : Collections.unmodifiableSet(requests);
+    }
+
     @Override
     public BiMap<IToken<?>, IRequest<?>> getIdentities()
     {
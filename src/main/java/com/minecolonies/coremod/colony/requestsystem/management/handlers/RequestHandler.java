@@ -3,6 +3,7 @@ package com.minecolonies.coremod.colony.requestsystem.management.handlers;
 import com.google.common.collect.ImmutableCollection;
 import com.google.common.collect.ImmutableList;
 import com.google.common.reflect.TypeToken;
+import com.minecolonies.api.colony.requestsystem.data.IRequestIdentitiesDataStore;
 import com.minecolonies.api.colony.requestsystem.management.IRequestHandler;
 import com.minecolonies.api.colony.requestsystem.manager.AssigningStrategy;
 import com.minecolonies.api.colony.requestsystem.manager.IRequestManager;
@@ -20,7 +21,6 @@ import com.minecolonies.coremod.colony.requestsystem.management.manager.wrapped.
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 import static com.minecolonies.api.util.constant.Suppression.RAWTYPES;
 import static com.minecolonies.api.util.constant.Suppression.UNCHECKED;
@@ -69,7 +69,7 @@ public class RequestHandler implements IRequestHandler
 
         manager.getLogger().debug("Registering request: " + request);
 
-        manager.getRequestIdentitiesDataStore().getIdentities().put(request.getId(), request);
+        manager.getRequestIdentitiesDataStore().addRequest(request);
     }
 
     /**
@@ -129,21 +129,7 @@ public class RequestHandler implements IRequestHandler
 
         request.setState(new WrappedStaticStateRequestManager(manager), RequestState.ASSIGNING);
 
-        final Set<TypeToken<?>> requestTypes = request.getSuperClasses();
-
-        final List<TypeToken<?>> typeIndexList = new LinkedList<>(requestTypes);
-
-        final Set<IRequestResolver<?>> resolvers = requestTypes.stream()
-                                                     .filter(typeToken -> manager.getRequestableTypeRequestResolverAssignmentDataStore().getAssignments().containsKey(typeToken))
-                                                     .flatMap(type -> manager.getRequestableTypeRequestResolverAssignmentDataStore()
-                                                                        .getAssignments()
-                                                                        .get(type)
-                                                                        .stream()
-                                                                        .map(iToken -> manager.getResolverHandler().getResolver(iToken)))
-                                                     .filter(iRequestResolver -> typeIndexList.contains(iRequestResolver.getRequestType()))
-                                                     .sorted(Comparator.comparingInt((IRequestResolver<?> r) -> -1 * r.getPriority())
-                                                               .thenComparingInt((IRequestResolver<?> r) -> typeIndexList.indexOf(r.getRequestType())))
-                                                     .collect(Collectors.toCollection(LinkedHashSet::new));
+        final List<IRequestResolver<?>> resolvers = manager.getResolverHandler().getResolversForRequestTypes(request.getSuperClasses());
 
         for (@SuppressWarnings(RAWTYPES) final IRequestResolver resolver : resolvers)
         {
@@ -343,7 +329,7 @@ public class RequestHandler implements IRequestHandler
 
         if (manager.getRequestResolverRequestAssignmentDataStore().getAssignmentForValue(token) == null)
         {
-            manager.getRequestIdentitiesDataStore().getIdentities().remove(token);
+            manager.getRequestIdentitiesDataStore().removeRequest(token);
             return;
         }
 
@@ -512,17 +498,17 @@ public class RequestHandler implements IRequestHandler
             }
         }
 
-        manager.getRequestIdentitiesDataStore().getIdentities().remove(token);
+        manager.getRequestIdentitiesDataStore().removeRequest(token);
     }
 
     @Override
     public void removeRequester(final IRequester requester)
     {
-        for (final IRequest<?> req : new ArrayList<>(manager.getRequestIdentitiesDataStore().getIdentities().values()))
+        for (final IToken<?> token : new ArrayList<>(manager.getRequestIdentitiesDataStore().getRequestsOfRequester(requester.getId())))
         {
-            if (req.getRequester().getId().equals(requester.getId()))
+            if (getRequestOrNull(token) != null)
             {
-                onRequestCancelled(req.getId());
+                onRequestCancelled(token);
             }
         }
     }
@@ -567,11 +553,13 @@ public class RequestHandler implements IRequestHandler
     @Override
     public Collection<IRequest<?>> getRequestsMadeByRequester(final IRequester requester)
     {
-        return manager.getRequestIdentitiesDataStore()
-                 .getIdentities()
-                 .values()
-                 .stream()
-                 .filter(iRequest -> iRequest.getRequester().getId().equals(requester.getId()))
-                 .collect(Collectors.toList());
+        final IRequestIdentitiesDataStore dataStore = manager.getRequestIdentitiesDataStore();
+        final Collection<IToken<?>> tokens = dataStore.getRequestsOfRequester(requester.getId());
+        final List<IRequest<?>> requests = new ArrayList<>(tokens.size());
+        for (final IToken<?> token : tokens)
+        {
+            requests.add(dataStore.getIdentities().get(token));
+        }
+        return requests;
     }
 }
@@ -1,8 +1,11 @@
 package com.minecolonies.coremod.colony.requestsystem.management.handlers;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import com.google.common.reflect.TypeToken;
+import com.minecolonies.api.colony.requestsystem.data.IRequestableTypeRequestResolverAssignmentDataStore;
 import com.minecolonies.api.colony.requestsystem.management.IResolverHandler;
 import com.minecolonies.api.colony.requestsystem.manager.IRequestManager;
 import com.minecolonies.api.colony.requestsystem.request.IRequest;
@@ -35,6 +38,17 @@ public class ResolverHandler implements IResolverHandler
      */
     private List<IToken<?>> tempBlackList = new ArrayList<>();
 
+    /**
+     * Priority ordered resolvers by the types of a request, cleared when resolvers are registered or removed.
+     */
+    private final Map<Set<TypeToken<?>>, List<IRequestResolver<?>>> resolverIndex = new HashMap<>();
+
+    /**
+     * The assignment data store the index was built from, the index is dropped when the manager replaces it.
+     */
+    @Nullable
+    private IRequestableTypeRequestResolverAssignmentDataStore indexedDataStore = null;
+
     public ResolverHandler(final IStandardRequestManager manager)
     {
         this.manager = manager;
@@ -86,6 +100,7 @@ public class ResolverHandler implements IResolverHandler
         }
 
         manager.getRequestResolverIdentitiesDataStore().getIdentities().put(resolver.getId(), resolver);
+        resolverIndex.clear();
 
         final Set<TypeToken<?>> resolverTypes = ReflectionUtils.getSuperClasses(resolver.getRequestType());
         resolverTypes.remove(TypeConstants.OBJECT);
@@ -289,10 +304,59 @@ public class ResolverHandler implements IResolverHandler
         return manager.getRequestResolverIdentitiesDataStore().getIdentities().get(token);
     }
 
+    @Override
+    public List<IRequestResolver<?>> getResolversForRequestTypes(final Set<TypeToken<?>> requestTypes)
+    {
+        final IRequestableTypeRequestResolverAssignmentDataStore dataStore = manager.getRequestableTypeRequestResolverAssignmentDataStore();
+        if (dataStore != indexedDataStore)
+        {
+            resolverIndex.clear();
+            indexedDataStore = dataStore;
+        }
+
+        final List<IRequestResolver<?>> cached = resolverIndex.get(requestTypes);
+        if (cached != null)
+        {
+            return cached;
+        }
+
+        final List<TypeToken<?>> typeIndexList = new ArrayList<>(requestTypes);
+        final Map<TypeToken<?>, Integer> typeIndices = new HashMap<>();
+        for (int i = 0; i < typeIndexList.size(); i++)
+        {
+            typeIndices.put(typeIndexList.get(i), i);
+        }
+
+        final Set<IRequestResolver<?>> resolvers = new LinkedHashSet<>();
+        for (final TypeToken<?> type : typeIndexList)
+        {
+            final Collection<IToken<?>> assigned = dataStore.getAssignments().get(type);
+            if (assigned != null)
+            {
+                for (final IToken<?> token : assigned)
+                {
+                    final IRequestResolver<?> resolver = getResolver(token);
+                    if (typeIndices.containsKey(resolver.getRequestType()))
+                    {
+                        resolvers.add(resolver);
+                    }
+                }
+            }
+        }
+
+        final List<IRequestResolver<?>> sorted = new ArrayList<>(resolvers);
+        sorted.sort(Comparator.comparingInt((IRequestResolver<?> r) -> -1 * r.getPriority()).thenComparingInt((IRequestResolver<?> r) -> typeIndices.get(r.getRequestType())));
+
+        final List<IRequestResolver<?>> result = ImmutableList.copyOf(sorted);
+        resolverIndex.put(ImmutableSet.copyOf(requestTypes), result);
+        return result;
+    }
+
     @Override
     public void removeResolverInternal(final IRequestResolver<?> resolver)
     {
         manager.getRequestResolverIdentitiesDataStore().getIdentities().remove(resolver.getId());
+        resolverIndex.clear();
         final Set<TypeToken<?>> requestTypes = ReflectionUtils.getSuperClasses(resolver.getRequestType());
         requestTypes.remove(TypeConstants.OBJECT);
         requestTypes.forEach(c -> {
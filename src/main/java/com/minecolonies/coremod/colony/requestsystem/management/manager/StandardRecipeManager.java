@@ -1,22 +1,18 @@
 package com.minecolonies.coremod.colony.requestsystem.management.manager;
 
-import com.google.common.collect.BiMap;
-import com.google.common.collect.HashBiMap;
-import com.google.common.collect.ImmutableMap;
 import com.minecolonies.api.colony.requestsystem.StandardFactoryController;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
 import com.minecolonies.api.crafting.IRecipeManager;
 import com.minecolonies.api.crafting.IRecipeStorage;
 import com.minecolonies.api.util.Log;
-import com.minecolonies.api.util.NBTUtils;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.nbt.ListNBT;
 import net.minecraftforge.common.util.Constants;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.HashSet;
-import java.util.Map;
-import java.util.Set;
+import java.util.*;
 
 public class StandardRecipeManager implements IRecipeManager
 {
@@ -26,38 +22,67 @@ public class StandardRecipeManager implements IRecipeManager
     private static final String TAG_RECIPES = "recipes";
 
     /**
-     * Map of all recipes which have been discovered globally already.
-     * Initializing with 4096 as size since default is 16, and growth is costly
+     * Initial capacity of the recipe store, since growth is costly.
      */
-    private final BiMap<IToken<?>, IRecipeStorage> recipes = HashBiMap.create(4096);
+    private static final int INITIAL_CAPACITY = 4096;
 
     /**
-     * Immutable cache.
+     * The tokens of all recipes which have been discovered globally already, by recipe id. Only ever appended to until reset.
      */
-    private ImmutableMap<IToken<?>, IRecipeStorage> cache = null;
+    private final List<IToken<?>> tokens = new ArrayList<>(INITIAL_CAPACITY);
 
+    /**
+     * The recipes by recipe id.
+     */
+    private final List<IRecipeStorage> storages = new ArrayList<>(INITIAL_CAPACITY);
+
+    /**
+     * The recipe id of every token.
+     */
+    private final Object2IntMap<IToken<?>> idsByToken = new Object2IntOpenHashMap<>(INITIAL_CAPACITY);
+
+    /**
+     * The recipe id of every stored recipe, equal recipes resolve to the stored instance.
+     */
+    private final Map<IRecipeStorage, Integer> idsByStorage = new HashMap<>(INITIAL_CAPACITY);
+
+    /**
+     * Unmodifiable view of the recipes.
+     */
+    private final Map<IToken<?>, IRecipeStorage> view = new RecipeView();
 
     /**
      * The list of recipes marked as used this session
      */
     private final Set<IToken<?>> usedRecipes = new HashSet<>();
 
+    /**
+     * Incremented on every change of the stored recipes.
+     */
+    private int modificationCount = 0;
+
+    public StandardRecipeManager()
+    {
+        idsByToken.defaultReturnValue(-1);
+    }
+
     @Override
-    public ImmutableMap<IToken<?>, IRecipeStorage> getRecipes()
+    public Map<IToken<?>, IRecipeStorage> getRecipes()
     {
-        if (cache == null)
-        {
-            cache = ImmutableMap.copyOf(recipes);
-        }
-        return cache;
+        return view;
+    }
+
+    @Override
+    public int getModificationCount()
+    {
+        return modificationCount;
     }
 
     @Override
     public IToken<?> addRecipe(final IRecipeStorage storage)
     {
-        recipes.put(storage.getToken(), storage);
+        putRecipe(storage);
         registerUse(storage.getToken());
-        cache = null;
         return storage.getToken();
     }
 
@@ -76,14 +101,21 @@ public class StandardRecipeManager implements IRecipeManager
     @Override
     public IToken<?> getRecipeId(final IRecipeStorage storage)
     {
-        return recipes.inverse().get(storage);
+        final Integer id = idsByStorage.get(storage);
+        return id == null ? null : tokens.get(id);
     }
 
     @Override
     public void write(@NotNull final CompoundNBT compound)
     {
-        @NotNull final ListNBT recipesTagList =
-          recipes.entrySet().stream().filter(recipeEntry -> usedRecipes.contains(recipeEntry.getKey())).map(entry -> StandardFactoryController.getInstance().serialize(entry.getValue())).collect(NBTUtils.toListNBT());
+        @NotNull final ListNBT recipesTagList = new ListNBT();
+        for (int id = 0; id < tokens.size(); id++)
+        {
+            if (usedRecipes.contains(tokens.get(id)))
+            {
+                recipesTagList.add(StandardFactoryController.getInstance().serialize(storages.get(id)));
+            }
+        }
         compound.put(TAG_RECIPES, recipesTagList);
     }
 
@@ -94,11 +126,11 @@ public class StandardRecipeManager implements IRecipeManager
         for (int i = 0; i < list.size(); i++)
         {
             IRecipeStorage recipe = StandardFactoryController.getInstance().deserialize(list.getCompound(i));
-            if (recipe != null && !recipes.containsValue(recipe) && !recipe.getCleanedInput().isEmpty())
+            if (recipe != null && !idsByStorage.containsKey(recipe) && !recipe.getCleanedInput().isEmpty())
             {
                 try
                 {
-                    recipes.put(recipe.getToken(), recipe);
+                    putRecipe(recipe);
                 }
                 catch (Exception e)
                 {
@@ -106,14 +138,17 @@ public class StandardRecipeManager implements IRecipeManager
                 }
             }
         }
-        cache = null;
     }
 
     @Override
     public void reset()
     {
-        recipes.clear();
+        tokens.clear();
+        storages.clear();
+        idsByToken.clear();
+        idsByStorage.clear();
         usedRecipes.clear();
+        modificationCount++;
     }
 
     @Override
@@ -121,4 +156,104 @@ public class StandardRecipeManager implements IRecipeManager
     {
         usedRecipes.add(token);
     }
+
+    /**
+     * Store a recipe, appending it or replacing the recipe of the same token in place.
+     *
+     * @param storage the recipe.
+     * @throws IllegalArgumentException if an equal recipe is stored under another token.
+     */
+    private void putRecipe(final IRecipeStorage storage)
+    {
+        final IToken<?> token = storage.getToken();
+        final Integer existing = idsByStorage.get(storage);
+        if (existing != null && !tokens.get(existing).equals(token))
+        {
+            throw new IllegalArgumentException("Recipe already present under another token: " + tokens.get(existing));
+        }
+
+        final int id = idsByToken.getInt(token);
+        if (id < 0)
+        {
+            idsByToken.put(token, tokens.size());
+            idsByStorage.put(storage, tokens.size());
+            tokens.add(token);
+            storages.add(storage);
+        }
+        else
+        {
+            idsByStorage.remove(storages.get(id));
+            idsByStorage.put(storage, id);
+            storages.set(id, storage);
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Unmodifiable map view of the recipe store. The store is only appended to, so iterating it sees a consistent prefix even if recipes are added meanwhile.
+     */
+    private final class RecipeView extends AbstractMap<IToken<?>, IRecipeStorage>
+    {
+        @Override
+        public IRecipeStorage get(final Object key)
+        {
+            final int id = idsByToken.getInt(key);
+            return id < 0 ? null : storages.get(id);
+        }
+
+        @Override
+        public boolean containsKey(final Object key)
+        {
+            return idsByToken.containsKey(key);
+        }
+
+        @Override
+        public int size()
+        {
+            return tokens.size();
+        }
+
+        @NotNull
+        @Override
+        public Set<Entry<IToken<?>, IRecipeStorage>> entrySet()
+        {
+            return new AbstractSet<Entry<IToken<?>, IRecipeStorage>>()
+            {
+                @NotNull
+                @Override
+                public Iterator<Entry<IToken<?>, IRecipeStorage>> iterator()
+                {
+                    final int size = tokens.size();
+                    return new Iterator<Entry<IToken<?>, IRecipeStorage>>()
+                    {
+                        private int id = 0;
+
+                        @Override
+                        public boolean hasNext()
+                        {
+                            return id < size;
+                        }
+
+                        @Override
+                        public Entry<IToken<?>, IRecipeStorage> next()
+                        {
+                            if (!hasNext())
+                            {
+                                throw new NoSuchElementException();
+                            }
+                            final Entry<IToken<?>, IRecipeStorage> entry = new SimpleImmutableEntry<>(tokens.get(id), storages.get(id));
+                            id++;
+                            return entry;
+                        }
+                    };
+                }
+
+                @Override
+                public int size()
+                {
+                    return tokens.size();
+                }
+            };
+        }
+    }
 }
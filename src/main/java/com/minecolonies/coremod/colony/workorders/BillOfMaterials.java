@@ -0,0 +1,377 @@
+package com.minecolonies.coremod.colony.workorders;
+
+import com.ldtteam.structures.blueprints.v1.Blueprint;
+import com.ldtteam.structurize.placement.BlockPlacementResult;
+import com.ldtteam.structurize.placement.StructurePhasePlacementResult;
+import com.ldtteam.structurize.placement.StructurePlacer;
+import com.ldtteam.structurize.placement.structure.IStructureHandler;
+import com.ldtteam.structurize.util.BlockUtils;
+import com.ldtteam.structurize.util.BlueprintPositionInfo;
+import com.ldtteam.structurize.util.PlacementSettings;
+import com.minecolonies.api.blocks.AbstractBlockHut;
+import com.minecolonies.api.crafting.ItemStorage;
+import com.minecolonies.api.entity.ai.citizen.builder.IBuilderUndestroyable;
+import com.minecolonies.api.util.ItemStackUtils;
+import com.minecolonies.api.util.LoadOnlyStructureHandler;
+import com.minecolonies.coremod.entity.ai.basic.AbstractEntityAIStructure;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.nbt.ListNBT;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraftforge.common.util.Constants;
+import net.minecraftforge.common.util.TriPredicate;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+import static com.ldtteam.structurize.placement.BlueprintIterator.NULL_POS;
+
+/**
+ * The resources a builder still has to request for a work order, by request stage. Calculated once for the order and stored with it, and reduced as the builder places
+ * blocks, so builders resuming the order don't scan the blueprint again and only request what is left.
+ */
+public class BillOfMaterials
+{
+    /**
+     * NBT Tags for storage.
+     */
+    private static final String TAG_STAGES = "stages";
+    private static final String TAG_STACK  = "stack";
+    private static final String TAG_AMOUNT = "amount";
+
+    /**
+     * Predicate defining things we don't want the builders to ever touch.
+     */
+    private static final TriPredicate<BlueprintPositionInfo, BlockPos, IStructureHandler> DONT_TOUCH_PREDICATE = (info, worldPos, handler) ->
+    {
+        final BlockState worldState = handler.getWorld().getBlockState(worldPos);
+
+        return worldState.getBlock() instanceof IBuilderUndestroyable
+                 || worldState.getBlock() == Blocks.BEDROCK
+                 || (info.getBlockInfo().getState().getBlock() instanceof AbstractBlockHut && handler.getWorldPos().equals(worldPos));
+    };
+
+    /**
+     * The request stages, in the order builders request them.
+     */
+    public enum Stage
+    {
+        SOLID,
+        DECO,
+        ENTITIES
+    }
+
+    /**
+     * The resources of every stage, by stage ordinal.
+     */
+    private final List<List<ItemStorage>> stages;
+
+    /**
+     * Create a bill of materials.
+     *
+     * @param stages the resources of every stage.
+     */
+    private BillOfMaterials(final List<List<ItemStorage>> stages)
+    {
+        this.stages = stages;
+    }
+
+    /**
+     * Get the resources of a stage.
+     *
+     * @param stage the stage.
+     * @return the unmodifiable list of resources, the amount of each is stored in the storage.
+     */
+    @NotNull
+    public List<ItemStorage> getStage(@NotNull final Stage stage)
+    {
+        return Collections.unmodifiableList(stages.get(stage.ordinal()));
+    }
+
+    /**
+     * Get the resources of all stages, merged.
+     *
+     * @return the list of resources.
+     */
+    @NotNull
+    public List<ItemStorage> getTotal()
+    {
+        final Map<String, ItemStorage> total = new LinkedHashMap<>();
+        for (final List<ItemStorage> stage : stages)
+        {
+            for (final ItemStorage storage : stage)
+            {
+                addResource(total, storage.getItemStack(), storage.getAmount());
+            }
+        }
+        return new ArrayList<>(total.values());
+    }
+
+    /**
+     * Get the total amount of items of all stages.
+     *
+     * @return the amount.
+     */
+    public int getTotalAmount()
+    {
+        int amount = 0;
+        for (final List<ItemStorage> stage : stages)
+        {
+            for (final ItemStorage storage : stage)
+            {
+                amount += storage.getAmount();
+            }
+        }
+        return amount;
+    }
+
+    /**
+     * Reduce the remaining amount of a resource after the builder used it, in the first stage which still needs it.
+     *
+     * @param stack  the used item stack.
+     * @param amount the used amount.
+     */
+    public void reduce(@NotNull final ItemStack stack, final int amount)
+    {
+        final String key = getKey(stack);
+        for (final List<ItemStorage> stage : stages)
+        {
+            final Iterator<ItemStorage> iterator = stage.iterator();
+            while (iterator.hasNext())
+            {
+                final ItemStorage resource = iterator.next();
+                if (getKey(resource.getItemStack()).equals(key))
+                {
+                    if (resource.getAmount() <= amount)
+                    {
+                        iterator.remove();
+                    }
+                    else
+                    {
+                        resource.setAmount(resource.getAmount() - amount);
+                    }
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Save the bill of materials to a CompoundNBT.
+     *
+     * @return the compound.
+     */
+    @NotNull
+    public CompoundNBT write()
+    {
+        final CompoundNBT compound = new CompoundNBT();
+        final ListNBT stageList = new ListNBT();
+        for (final List<ItemStorage> stage : stages)
+        {
+            final ListNBT resourceList = new ListNBT();
+            for (final ItemStorage storage : stage)
+            {
+                final CompoundNBT resource = new CompoundNBT();
+                resource.put(TAG_STACK, storage.getItemStack().write(new CompoundNBT()));
+                resource.putInt(TAG_AMOUNT, storage.getAmount());
+                resourceList.add(resource);
+            }
+            stageList.add(resourceList);
+        }
+        compound.put(TAG_STAGES, stageList);
+        return compound;
+    }
+
+    /**
+     * Read a bill of materials from a CompoundNBT.
+     *
+     * @param compound the compound.
+     * @return the bill of materials.
+     */
+    @NotNull
+    public static BillOfMaterials read(@NotNull final CompoundNBT compound)
+    {
+        final ListNBT stageList = compound.getList(TAG_STAGES, Constants.NBT.TAG_LIST);
+        final List<List<ItemStorage>> stages = new ArrayList<>();
+        for (int i = 0; i < Stage.values().length; i++)
+        {
+            final List<ItemStorage> stage = new ArrayList<>();
+            if (i < stageList.size())
+            {
+                final ListNBT resourceList = (ListNBT) stageList.get(i);
+                for (int j = 0; j < resourceList.size(); j++)
+                {
+                    final CompoundNBT resource = resourceList.getCompound(j);
+                    final ItemStack stack = ItemStack.read(resource.getCompound(TAG_STACK));
+                    if (!ItemStackUtils.isEmpty(stack))
+                    {
+                        stage.add(new ItemStorage(stack, resource.getInt(TAG_AMOUNT), false));
+                    }
+                }
+            }
+            stages.add(stage);
+        }
+        return new BillOfMaterials(stages);
+    }
+
+    /**
+     * Add a resource to a resource map, merging it with an equal item stack.
+     *
+     * @param resources the resources by key.
+     * @param stack     the item stack.
+     * @param amount    the amount.
+     */
+    private static void addResource(final Map<String, ItemStorage> resources, final ItemStack stack, final int amount)
+    {
+        if (ItemStackUtils.isEmpty(stack) || amount == 0)
+        {
+            return;
+        }
+
+        final String key = getKey(stack);
+        final ItemStorage resource = resources.get(key);
+        if (resource == null)
+        {
+            final ItemStack copy = stack.copy();
+            copy.setCount(1);
+            resources.put(key, new ItemStorage(copy, amount, false));
+        }
+        else
+        {
+            resource.setAmount(resource.getAmount() + amount);
+        }
+    }
+
+    /**
+     * Get the key of an item stack, the same key builders use for their needed resources.
+     *
+     * @param stack the item stack.
+     * @return the key.
+     */
+    private static String getKey(final ItemStack stack)
+    {
+        final int hashCode = stack.hasTag() ? stack.getTag().hashCode() : 0;
+        return stack.getTranslationKey() + "-" + hashCode;
+    }
+
+    /**
+     * Calculation of a bill of materials, done in steps of a limited amount of blocks.
+     */
+    public static class Calculation
+    {
+        /**
+         * The placer iterating the blueprint.
+         */
+        private final StructurePlacer placer;
+
+        /**
+         * The resources found so far, by stage ordinal.
+         */
+        private final List<Map<String, ItemStorage>> resources = new ArrayList<>();
+
+        /**
+         * The stage currently calculated.
+         */
+        private Stage stage = Stage.SOLID;
+
+        /**
+         * The iterator position within the current stage.
+         */
+        private BlockPos progress = NULL_POS;
+
+        /**
+         * Start the calculation for a blueprint placed in the world.
+         *
+         * @param world     the world.
+         * @param pos       the position the blueprint is placed at.
+         * @param blueprint the rotated and mirrored blueprint, it is not modified.
+         */
+        public Calculation(@NotNull final World world, @NotNull final BlockPos pos, @NotNull final Blueprint blueprint)
+        {
+            this.placer = new StructurePlacer(new LoadOnlyStructureHandler(world, pos, blueprint, new PlacementSettings(), true)
+            {
+                @Override
+                public BlockState getSolidBlockForPos(final BlockPos worldPos)
+                {
+                    return BlockUtils.getSubstitutionBlockAtWorld(getWorld(), worldPos).getBlockState();
+                }
+            });
+
+            for (int i = 0; i < Stage.values().length; i++)
+            {
+                resources.add(new LinkedHashMap<>());
+            }
+        }
+
+        /**
+         * Calculate the next part of the bill of materials.
+         *
+         * @param world the world.
+         * @return true if the calculation is finished.
+         */
+        public boolean step(@NotNull final World world)
+        {
+            final StructurePhasePlacementResult result;
+            switch (stage)
+            {
+                case SOLID:
+                    result = placer.executeStructureStep(world, null, progress, StructurePlacer.Operation.GET_RES_REQUIREMENTS,
+                      () -> placer.getIterator()
+                              .increment(DONT_TOUCH_PREDICATE.or((info, pos, handler) -> !info.getBlockInfo().getState().getMaterial().isSolid()
+                                                                                              || AbstractEntityAIStructure.isDecoItem(info.getBlockInfo().getState().getBlock()))),
+                      false);
+                    break;
+                case DECO:
+                    result = placer.executeStructureStep(world, null, progress, StructurePlacer.Operation.GET_RES_REQUIREMENTS,
+                      () -> placer.getIterator()
+                              .increment(DONT_TOUCH_PREDICATE.or((info, pos, handler) -> info.getBlockInfo().getState().getMaterial().isSolid()
+                                                                                              && !AbstractEntityAIStructure.isDecoItem(info.getBlockInfo().getState().getBlock()))),
+                      false);
+                    break;
+                default:
+                    result = placer.executeStructureStep(world, null, progress, StructurePlacer.Operation.GET_RES_REQUIREMENTS,
+                      () -> placer.getIterator().increment(DONT_TOUCH_PREDICATE.or((info, pos, handler) -> info.getEntities().length == 0)), true);
+                    break;
+            }
+
+            progress = result.getIteratorPos();
+            for (final ItemStack stack : result.getBlockResult().getRequiredItems())
+            {
+                addResource(resources.get(stage.ordinal()), stack, stack.getCount());
+            }
+
+            if (result.getBlockResult().getResult() != BlockPlacementResult.Result.FINISHED)
+            {
+                return false;
+            }
+
+            if (stage == Stage.ENTITIES)
+            {
+                return true;
+            }
+
+            stage = Stage.values()[stage.ordinal() + 1];
+            progress = NULL_POS;
+            return false;
+        }
+
+        /**
+         * Get the calculated bill of materials.
+         *
+         * @return the bill of materials, only complete once {@link #step(World)} returned true.
+         */
+        @NotNull
+        public BillOfMaterials getResult()
+        {
+            final List<List<ItemStorage>> stages = new ArrayList<>();
+            for (final Map<String, ItemStorage> stageResources : resources)
+            {
+                stages.add(new ArrayList<>(stageResources.values()));
+            }
+            return new BillOfMaterials(stages);
+        }
+    }
+}
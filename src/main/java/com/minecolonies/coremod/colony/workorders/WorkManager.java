@@ -36,6 +36,12 @@ import static com.minecolonies.coremod.MineColonies.CLOSE_COLONY_CAP;
 public class WorkManager implements IWorkManager
 {
     private static final String                   TAG_WORK_ORDERS = "workOrders";
+
+    /**
+     * Time in nanoseconds spent on calculating bills of materials per call.
+     */
+    private static final long BILL_OF_MATERIALS_TIME_BUDGET_NS = 2_000_000;
+
     //  Once a second
     //private static final int    WORK_ORDER_FULFILL_INCREMENT = 1 * 20;
     /**
@@ -365,6 +371,32 @@ public class WorkManager implements IWorkManager
         }
     }
 
+    /**
+     * Continue calculating the bills of materials of the work orders, within a small time budget.
+     */
+    public void calculateBillsOfMaterials()
+    {
+        final World world = colony.getWorld();
+        if (world == null)
+        {
+            return;
+        }
+
+        final long deadline = System.nanoTime() + BILL_OF_MATERIALS_TIME_BUDGET_NS;
+        for (final IWorkOrder order : workOrders.values())
+        {
+            if (order instanceof WorkOrderBuildDecoration && ((WorkOrderBuildDecoration) order).calculateBillOfMaterials(world, deadline))
+            {
+                dirty = true;
+            }
+
+            if (System.nanoTime() >= deadline)
+            {
+                return;
+            }
+        }
+    }
+
     /**
      * Get an ordered list by priority of the work orders.
      *
@@ -1,5 +1,6 @@
 package com.minecolonies.coremod.colony.workorders;
 
+import com.ldtteam.structures.blueprints.v1.Blueprint;
 import com.ldtteam.structurize.management.StructureName;
 import com.ldtteam.structurize.util.LanguageHandler;
 import com.minecolonies.api.advancements.AdvancementTriggers;
@@ -7,17 +8,24 @@ import com.minecolonies.api.colony.ICitizenData;
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.workorders.IWorkManager;
 import com.minecolonies.api.colony.workorders.WorkOrderType;
+import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.Log;
+import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.colony.buildings.workerbuildings.BuildingBuilder;
 import com.minecolonies.coremod.entity.ai.citizen.builder.ConstructionTapeHelper;
 import com.minecolonies.coremod.tileentities.TileEntityDecorationController;
 import com.minecolonies.coremod.util.AdvancementUtils;
+import com.minecolonies.coremod.util.BlueprintCache;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.Mirror;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.CompletableFuture;
 
 import static com.minecolonies.api.util.constant.NbtTagConstants.TAG_LEVEL;
 import static com.minecolonies.api.util.constant.Suppression.UNUSED_METHOD_PARAMETERS_SHOULD_BE_REMOVED;
@@ -40,6 +48,7 @@ public class WorkOrderBuildDecoration extends AbstractWorkOrder
     private static final String TAG_SCHEMATIC_NAME    = "structureName";
     private static final String TAG_BUILDING_ROTATION = "buildingRotation";
     private static final String TAG_AMOUNT_OF_RES     = "resQuantity";
+    private static final String TAG_BILL_OF_MATERIALS = "billOfMaterials";
 
     protected boolean isBuildingMirrored;
     protected int     buildingRotation;
@@ -51,6 +60,23 @@ public class WorkOrderBuildDecoration extends AbstractWorkOrder
     protected boolean hasSentMessageForThisWorkOrder = false;
     private   boolean requested;
 
+    /**
+     * The resources builders have to request, null until calculated.
+     */
+    @Nullable
+    private BillOfMaterials billOfMaterials;
+
+    /**
+     * The running calculation of the bill of materials.
+     */
+    @Nullable
+    private BillOfMaterials.Calculation billOfMaterialsCalculation;
+
+    /**
+     * If the bill of materials could not be calculated, e.g. because the blueprint is missing.
+     */
+    private boolean billOfMaterialsFailed = false;
+
     /**
      * Unused constructor for reflection.
      */
@@ -118,6 +144,10 @@ public class WorkOrderBuildDecoration extends AbstractWorkOrder
         isBuildingMirrored = compound.getBoolean(TAG_IS_MIRRORED);
         amountOfRes = compound.getInt(TAG_AMOUNT_OF_RES);
         levelUp = compound.getBoolean(TAG_LEVEL);
+        if (compound.contains(TAG_BILL_OF_MATERIALS))
+        {
+            billOfMaterials = BillOfMaterials.read(compound.getCompound(TAG_BILL_OF_MATERIALS));
+        }
     }
 
     /**
@@ -147,6 +177,10 @@ public class WorkOrderBuildDecoration extends AbstractWorkOrder
         compound.putBoolean(TAG_IS_MIRRORED, isBuildingMirrored);
         compound.putInt(TAG_AMOUNT_OF_RES, amountOfRes);
         compound.putBoolean(TAG_LEVEL, levelUp);
+        if (billOfMaterials != null)
+        {
+            compound.put(TAG_BILL_OF_MATERIALS, billOfMaterials.write());
+        }
     }
 
     @Override
@@ -390,4 +424,72 @@ public class WorkOrderBuildDecoration extends AbstractWorkOrder
     {
         this.amountOfRes = amountOfRes;
     }
+
+    /**
+     * Check if builders request the resources of this work order from its bill of materials.
+     *
+     * @return true if so, false if they have to scan the blueprint themselves.
+     */
+    public boolean hasBillOfMaterials()
+    {
+        return !billOfMaterialsFailed && !MineColonies.getConfig().getServer().builderInfiniteResources.get();
+    }
+
+    /**
+     * Get the resources builders have to request for this work order.
+     *
+     * @return the bill of materials or null if not calculated yet.
+     */
+    @Nullable
+    public BillOfMaterials getBillOfMaterials()
+    {
+        return billOfMaterials;
+    }
+
+    /**
+     * Continue calculating the bill of materials, until it is done or the deadline passed. The blueprint is loaded in the background first.
+     *
+     * @param world    the world.
+     * @param deadline the {@link System#nanoTime()} to stop at, at least one step is done.
+     * @return true if the calculation finished during this call.
+     */
+    public boolean calculateBillOfMaterials(@NotNull final World world, final long deadline)
+    {
+        if (billOfMaterials != null || !hasBillOfMaterials())
+        {
+            return false;
+        }
+
+        if (billOfMaterialsCalculation == null)
+        {
+            final CompletableFuture<Blueprint> blueprint = BlueprintCache.getBlueprint(world,
+              structureName,
+              BlockPosUtil.getRotationFromRotations(getRotation(world)),
+              isBuildingMirrored ? Mirror.FRONT_BACK : Mirror.NONE);
+            if (!blueprint.isDone())
+            {
+                return false;
+            }
+
+            if (blueprint.join() == null)
+            {
+                billOfMaterialsFailed = true;
+                return false;
+            }
+            billOfMaterialsCalculation = new BillOfMaterials.Calculation(world, buildingLocation, blueprint.join());
+        }
+
+        do
+        {
+            if (billOfMaterialsCalculation.step(world))
+            {
+                billOfMaterials = billOfMaterialsCalculation.getResult();
+                billOfMaterialsCalculation = null;
+                amountOfRes = billOfMaterials.getTotalAmount();
+                return true;
+            }
+        }
+        while (System.nanoTime() < deadline);
+        return false;
+    }
 }
@@ -114,4 +114,11 @@ public class WorkOrderBuildMiner extends WorkOrderBuildDecoration
     {
         return minerBuilding;
     }
+
+    @Override
+    public boolean hasBillOfMaterials()
+    {
+        // Miners fill with their own block, so they scan the blueprint themselves.
+        return false;
+    }
 }
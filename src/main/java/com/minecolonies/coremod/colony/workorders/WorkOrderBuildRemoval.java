@@ -39,4 +39,11 @@ public class WorkOrderBuildRemoval extends WorkOrderBuild
     {
         return super.isValid(colony);
     }
+
+    @Override
+    public boolean hasBillOfMaterials()
+    {
+        // Nothing is requested for a removal.
+        return false;
+    }
 }
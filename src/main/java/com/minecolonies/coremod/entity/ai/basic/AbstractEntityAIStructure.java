@@ -31,6 +31,7 @@ import com.minecolonies.coremod.colony.buildings.AbstractBuildingStructureBuilde
 import com.minecolonies.coremod.colony.jobs.AbstractJobStructure;
 import com.minecolonies.coremod.entity.ai.util.BuildingStructureHandler;
 import com.minecolonies.coremod.tileentities.TileEntityDecorationController;
+import com.minecolonies.coremod.util.BlueprintCache;
 import net.minecraft.block.*;
 import net.minecraft.item.BlockItem;
 import net.minecraft.item.ItemStack;
@@ -38,6 +39,7 @@ import net.minecraft.tags.BlockTags;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.Hand;
 import net.minecraft.util.Mirror;
+import net.minecraft.util.Rotation;
 import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.text.TranslationTextComponent;
@@ -46,6 +48,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 
 import static com.ldtteam.structurize.placement.BlueprintIterator.NULL_POS;
 import static com.minecolonies.api.entity.ai.statemachine.states.AIWorkerState.*;
@@ -248,7 +251,7 @@ public abstract class AbstractEntityAIStructure<J extends AbstractJobStructure<?
     /**
      * Checks for blocks that need to be treated as deco
      */
-    protected static boolean isDecoItem(Block block)
+    public static boolean isDecoItem(final Block block)
     {
         return ModTags.decorationItems.contains(block) || block instanceof BlockFluidSubstitution;
     }
@@ -292,6 +295,70 @@ public abstract class AbstractEntityAIStructure<J extends AbstractJobStructure<?
 
         limitReached = false;
 
+        // Place a batch of blocks close to the first one, so the builder doesn't place blocks far from where it stands.
+        StructurePhasePlacementResult result = executeStructurePhaseStep(progress);
+        final BlockPos batchStart = structurePlacer.getB().getProgressPosInWorld(result.getIteratorPos());
+        final int batchSize = getPlacementBatchSize();
+        for (int placed = 1; placed < batchSize && result.getBlockResult().getResult() == BlockPlacementResult.Result.LIMIT_REACHED; placed++)
+        {
+            if (BlockPosUtil.getDistance2D(structurePlacer.getB().getProgressPosInWorld(result.getIteratorPos()), batchStart) > STANDARD_WORKING_RANGE)
+            {
+                break;
+            }
+            result = executeStructurePhaseStep(result.getIteratorPos());
+        }
+
+        if (result.getBlockResult().getResult() == BlockPlacementResult.Result.FINISHED)
+        {
+            getOwnBuilding().nextStage();
+            if (!structurePlacer.getB().nextStage())
+            {
+                getOwnBuilding().setProgressPos(null, null);
+                return COMPLETE_BUILD;
+            }
+
+        }
+        else if (result.getBlockResult().getResult() == BlockPlacementResult.Result.LIMIT_REACHED)
+        {
+            this.limitReached = true;
+        }
+        this.storeProgressPos(result.getIteratorPos(), structurePlacer.getB().getStage());
+
+        if (result.getBlockResult().getResult() == BlockPlacementResult.Result.MISSING_ITEMS)
+        {
+            if (hasListOfResInInvOrRequest(this, result.getBlockResult().getRequiredItems(), result.getBlockResult().getRequiredItems().size() > 1) == RECALC)
+            {
+                job.getWorkOrder().setRequested(false);
+                return LOAD_STRUCTURE;
+            }
+            return NEEDS_ITEM;
+        }
+
+        if (result.getBlockResult().getResult() == BlockPlacementResult.Result.BREAK_BLOCK)
+        {
+            blockToMine = result.getBlockResult().getWorldPos();
+            return MINE_BLOCK;
+        }
+
+        if (MineColonies.getConfig().getServer().builderBuildBlockDelay.get() > 0)
+        {
+            final double decrease = 1 - worker.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(BLOCK_PLACE_SPEED);
+
+            setDelay((int) (
+              (MineColonies.getConfig().getServer().builderBuildBlockDelay.get() * PROGRESS_MULTIPLIER / (getPlaceSpeedLevel() / 2 + PROGRESS_MULTIPLIER))
+                * decrease));
+        }
+        return getState();
+    }
+
+    /**
+     * Execute one placement step of the current stage of the structure.
+     *
+     * @param progress the iterator position to continue at.
+     * @return the result of the step.
+     */
+    private StructurePhasePlacementResult executeStructurePhaseStep(final BlockPos progress)
+    {
         final StructurePhasePlacementResult result;
         final StructurePlacer placer = structurePlacer.getA();
         switch (structurePlacer.getB().getStage())
@@ -381,47 +448,7 @@ public abstract class AbstractEntityAIStructure<J extends AbstractJobStructure<?
                 break;
         }
 
-        if (result.getBlockResult().getResult() == BlockPlacementResult.Result.FINISHED)
-        {
-            getOwnBuilding().nextStage();
-            if (!structurePlacer.getB().nextStage())
-            {
-                getOwnBuilding().setProgressPos(null, null);
-                return COMPLETE_BUILD;
-            }
-
-        }
-        else if (result.getBlockResult().getResult() == BlockPlacementResult.Result.LIMIT_REACHED)
-        {
-            this.limitReached = true;
-        }
-        this.storeProgressPos(result.getIteratorPos(), structurePlacer.getB().getStage());
-
-        if (result.getBlockResult().getResult() == BlockPlacementResult.Result.MISSING_ITEMS)
-        {
-            if (hasListOfResInInvOrRequest(this, result.getBlockResult().getRequiredItems(), result.getBlockResult().getRequiredItems().size() > 1) == RECALC)
-            {
-                job.getWorkOrder().setRequested(false);
-                return LOAD_STRUCTURE;
-            }
-            return NEEDS_ITEM;
-        }
-
-        if (result.getBlockResult().getResult() == BlockPlacementResult.Result.BREAK_BLOCK)
-        {
-            blockToMine = result.getBlockResult().getWorldPos();
-            return MINE_BLOCK;
-        }
-
-        if (MineColonies.getConfig().getServer().builderBuildBlockDelay.get() > 0)
-        {
-            final double decrease = 1 - worker.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(BLOCK_PLACE_SPEED);
-
-            setDelay((int) (
-              (MineColonies.getConfig().getServer().builderBuildBlockDelay.get() * PROGRESS_MULTIPLIER / (getPlaceSpeedLevel() / 2 + PROGRESS_MULTIPLIER))
-                * decrease));
-        }
-        return getState();
+        return result;
     }
 
     /**
@@ -430,6 +457,16 @@ public abstract class AbstractEntityAIStructure<J extends AbstractJobStructure<?
      */
     public abstract int getPlaceSpeedLevel();
 
+    /**
+     * Get the max amount of blocks placed in one structure step, scaled from 1 up to the configured batch size by the place speed level.
+     * @return the amount of blocks.
+     */
+    public int getPlacementBatchSize()
+    {
+        final int batchSize = MineColonies.getConfig().getServer().builderPlacementBatchSize.get();
+        return 1 + (batchSize - 1) * Math.min(Math.max(getPlaceSpeedLevel(), 0), MAX_CITIZEN_LEVEL) / MAX_CITIZEN_LEVEL;
+    }
+
     /**
      * Separate step for mining.
      * @return the next state to go to.
@@ -451,16 +488,33 @@ public abstract class AbstractEntityAIStructure<J extends AbstractJobStructure<?
     }
 
     /**
-     * Loads the structure given the name, rotation and position.
+     * Loads the structure given the name, rotation and position. The rotated blueprint comes from the shared {@link BlueprintCache} and is loaded in the background on
+     * first use, call again until this returns true.
      *
      * @param name        the name to retrieve  it.
      * @param rotateTimes number of times to rotateWithMirror it.
      * @param position    the position to set it.
      * @param isMirrored  is the structure mirroed?
      * @param removal     if removal step.
+     * @return false while the blueprint is still loading, true once the structure is set up or loading failed.
      */
-    public void loadStructure(@NotNull final String name, final int rotateTimes, final BlockPos position, final boolean isMirrored, final boolean removal)
+    public boolean loadStructure(@NotNull final String name, final int rotateTimes, final BlockPos position, final boolean isMirrored, final boolean removal)
     {
+        final Rotation rotation = BlockPosUtil.getRotationFromRotations(rotateTimes);
+        final Mirror mirror = isMirrored ? Mirror.FRONT_BACK : Mirror.NONE;
+        final CompletableFuture<Blueprint> blueprint = BlueprintCache.getBlueprint(world, name, rotation, mirror);
+        if (!blueprint.isDone())
+        {
+            return false;
+        }
+
+        if (blueprint.join() == null)
+        {
+            handleSpecificCancelActions();
+            Log.getLogger().warn("Couldn't find structure with name: " + name + " aborting loading procedure");
+            return true;
+        }
+
         final BuildingStructureHandler<J, B> structure;
         IBuilding colonyBuilding = worker.getCitizenColonyHandler().getColony().getBuildingManager().getBuilding(position);
         final TileEntity entity = world.getTileEntity(position);
@@ -469,8 +523,8 @@ public abstract class AbstractEntityAIStructure<J extends AbstractJobStructure<?
         {
             structure = new BuildingStructureHandler<>(world,
               position,
-              name,
-              new PlacementSettings(isMirrored ? Mirror.FRONT_BACK : Mirror.NONE, BlockPosUtil.getRotationFromRotations(rotateTimes)),
+              blueprint.join(),
+              new PlacementSettings(mirror, rotation),
               this, new BuildingStructureHandler.Stage[] {REMOVE_WATER, REMOVE});
             getOwnBuilding().setTotalStages(2);
         }
@@ -479,8 +533,8 @@ public abstract class AbstractEntityAIStructure<J extends AbstractJobStructure<?
         {
             structure = new BuildingStructureHandler<>(world,
               position,
-              name,
-              new PlacementSettings(isMirrored ? Mirror.FRONT_BACK : Mirror.NONE, BlockPosUtil.getRotationFromRotations(rotateTimes)),
+              blueprint.join(),
+              new PlacementSettings(mirror, rotation),
               this, new BuildingStructureHandler.Stage[] {BUILD_SOLID, CLEAR_WATER, CLEAR_NON_SOLIDS, DECORATE, SPAWN});
             getOwnBuilding().setTotalStages(5);
         }
@@ -488,27 +542,20 @@ public abstract class AbstractEntityAIStructure<J extends AbstractJobStructure<?
         {
             structure = new BuildingStructureHandler<>(world,
               position,
-              name,
-              new PlacementSettings(isMirrored ? Mirror.FRONT_BACK : Mirror.NONE, BlockPosUtil.getRotationFromRotations(rotateTimes)),
+              blueprint.join(),
+              new PlacementSettings(mirror, rotation),
               this, new BuildingStructureHandler.Stage[] {CLEAR, BUILD_SOLID, CLEAR_WATER, CLEAR_NON_SOLIDS, DECORATE, SPAWN});
             getOwnBuilding().setTotalStages(6);
         }
 
-        if (!structure.hasBluePrint())
-        {
-            handleSpecificCancelActions();
-            Log.getLogger().warn("Couldn't find structure with name: " + name + " aborting loading procedure");
-            return;
-        }
-
         job.setBlueprint(structure.getBluePrint());
-        job.getBlueprint().rotateWithMirror(BlockPosUtil.getRotationFromRotations(rotateTimes), isMirrored ? Mirror.FRONT_BACK : Mirror.NONE, world);
         structurePlacer = new Tuple<>(new StructurePlacer(structure), structure);
 
         if (getProgressPos() != null)
         {
             structure.setStage(getProgressPos().getB());
         }
+        return true;
     }
 
     /**
@@ -36,20 +36,10 @@ import static com.minecolonies.api.util.constant.TranslationConstants.*;
 public abstract class AbstractEntityAIStructureWithWorkOrder<J extends AbstractJobStructure<?, J>, B extends AbstractBuildingStructureBuilder>
   extends AbstractEntityAIStructure<J, B>
 {
-    /**
-     * Possible request stages
-     */
-    private enum RequestStage
-    {
-        SOLID,
-        DECO,
-        ENTITIES
-    }
-
     /**
      * The current request state (0 is solid
      */
-    private RequestStage requestState = RequestStage.SOLID;
+    private BillOfMaterials.Stage requestState = BillOfMaterials.Stage.SOLID;
 
     /**
      * Request progress pos.
@@ -87,7 +77,12 @@ public abstract class AbstractEntityAIStructureWithWorkOrder<J extends AbstractJ
     {
         if (!job.hasBlueprint() || structurePlacer == null)
         {
-            loadStructure();
+            if (!loadStructure())
+            {
+                // Wait for the blueprint to finish loading.
+                return getState();
+            }
+
             final WorkOrderBuildDecoration wo = job.getWorkOrder();
             if (wo == null)
             {
@@ -137,14 +132,16 @@ public abstract class AbstractEntityAIStructureWithWorkOrder<J extends AbstractJ
 
     /**
      * Load the struction into the AI.
+     *
+     * @return false while the blueprint is still loading.
      */
-    private void loadStructure()
+    private boolean loadStructure()
     {
         final WorkOrderBuildDecoration workOrder = job.getWorkOrder();
 
         if (workOrder == null)
         {
-            return;
+            return true;
         }
 
         final BlockPos pos = workOrder.getBuildingLocation();
@@ -152,15 +149,19 @@ public abstract class AbstractEntityAIStructureWithWorkOrder<J extends AbstractJ
         {
             Log.getLogger().warn("AbstractBuilding does not exist - removing build request");
             worker.getCitizenColonyHandler().getColony().getWorkManager().removeWorkOrder(workOrder);
-            return;
+            return true;
         }
 
         final int tempRotation = workOrder.getRotation(world);
         final boolean removal = workOrder instanceof WorkOrderBuildRemoval;
 
-        super.loadStructure(workOrder.getStructureName(), tempRotation, pos, workOrder.isMirrored(), removal);
+        if (!super.loadStructure(workOrder.getStructureName(), tempRotation, pos, workOrder.isMirrored(), removal))
+        {
+            return false;
+        }
         workOrder.setCleared(false);
         workOrder.setRequested(removal);
+        return true;
     }
 
     /**
@@ -188,6 +189,13 @@ public abstract class AbstractEntityAIStructureWithWorkOrder<J extends AbstractJ
     @Override
     public boolean requestMaterials()
     {
+        final WorkOrderBuildDecoration workOrder = job.getWorkOrder();
+        if (workOrder != null && workOrder.hasBillOfMaterials())
+        {
+            // The colony calculates the bill of materials, wait for it if it isn't done yet.
+            return workOrder.getBillOfMaterials() != null && requestFromBillOfMaterials(workOrder.getBillOfMaterials());
+        }
+
         StructurePhasePlacementResult result;
         final WorkerLoadOnlyStructureHandler structure =
           new WorkerLoadOnlyStructureHandler(world, structurePlacer.getB().getWorldPos(), structurePlacer.getB().getBluePrint(), new PlacementSettings(), true, this);
@@ -198,10 +206,10 @@ public abstract class AbstractEntityAIStructureWithWorkOrder<J extends AbstractJ
             final AbstractBuildingStructureBuilder buildingWorker = getOwnBuilding();
             buildingWorker.resetNeededResources();
             requestProgress = NULL_POS;
-            requestState = RequestStage.SOLID;
+            requestState = BillOfMaterials.Stage.SOLID;
         }
 
-        final RequestStage currState = requestState;
+        final BillOfMaterials.Stage currState = requestState;
         switch (currState)
         {
             case SOLID:
@@ -223,7 +231,7 @@ public abstract class AbstractEntityAIStructureWithWorkOrder<J extends AbstractJ
 
                 if (result.getBlockResult().getResult() == BlockPlacementResult.Result.FINISHED)
                 {
-                    requestState = RequestStage.DECO;
+                    requestState = BillOfMaterials.Stage.DECO;
                 }
                 return false;
             case DECO:
@@ -245,7 +253,7 @@ public abstract class AbstractEntityAIStructureWithWorkOrder<J extends AbstractJ
 
                 if (result.getBlockResult().getResult() == BlockPlacementResult.Result.FINISHED)
                 {
-                    requestState = RequestStage.ENTITIES;
+                    requestState = BillOfMaterials.Stage.ENTITIES;
                 }
                 return false;
             case ENTITIES:
@@ -260,7 +268,7 @@ public abstract class AbstractEntityAIStructureWithWorkOrder<J extends AbstractJ
 
                 if (result.getBlockResult().getResult() == BlockPlacementResult.Result.FINISHED)
                 {
-                    requestState = RequestStage.SOLID;
+                    requestState = BillOfMaterials.Stage.SOLID;
                     requestProgress = null;
                     return true;
                 }
@@ -270,6 +278,37 @@ public abstract class AbstractEntityAIStructureWithWorkOrder<J extends AbstractJ
         }
     }
 
+    /**
+     * Register the resources of the bill of materials as needed, one stage per call.
+     *
+     * @param billOfMaterials the bill of materials of the work order.
+     * @return true if finished.
+     */
+    private boolean requestFromBillOfMaterials(@NotNull final BillOfMaterials billOfMaterials)
+    {
+        if (requestProgress == null)
+        {
+            getOwnBuilding().resetNeededResources();
+            requestProgress = NULL_POS;
+            requestState = BillOfMaterials.Stage.SOLID;
+        }
+
+        for (final ItemStorage resource : billOfMaterials.getStage(requestState))
+        {
+            getOwnBuilding().addNeededResource(resource.getItemStack(), resource.getAmount());
+        }
+
+        if (requestState == BillOfMaterials.Stage.ENTITIES)
+        {
+            requestState = BillOfMaterials.Stage.SOLID;
+            requestProgress = null;
+            return true;
+        }
+
+        requestState = BillOfMaterials.Stage.values()[requestState.ordinal() + 1];
+        return false;
+    }
+
     @Override
     public void registerBlockAsNeeded(final ItemStack stack)
     {
@@ -393,6 +432,10 @@ public abstract class AbstractEntityAIStructureWithWorkOrder<J extends AbstractJ
     public void reduceNeededResources(final ItemStack stack)
     {
         getOwnBuilding().reduceNeededResource(stack, 1);
+        if (job.getWorkOrder() != null && job.getWorkOrder().getBillOfMaterials() != null)
+        {
+            job.getWorkOrder().getBillOfMaterials().reduce(stack, 1);
+        }
     }
 
     @Override
@@ -21,6 +21,7 @@ import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.InventoryUtils;
 import com.minecolonies.api.util.constant.ToolType;
 import com.minecolonies.coremod.Network;
+import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.colony.buildings.AbstractBuildingGuards;
 import com.minecolonies.coremod.colony.buildings.workerbuildings.BuildingMiner;
 import com.minecolonies.coremod.colony.jobs.AbstractJobGuard;
@@ -1009,11 +1010,12 @@ public abstract class AbstractEntityAIGuard<J extends AbstractJobGuard<J>, B ext
             return null;
         }
 
-        final List<LivingEntity> entities = world.getLoadedEntitiesWithinAABB(LivingEntity.class, getSearchArea());
+        final ColonyThreatIndex threatIndex = colony instanceof Colony ? ((Colony) colony).getThreatIndex() : new ColonyThreatIndex();
+        final List<LivingEntity> entities = threatIndex.getEntitiesByDistance(world, getSearchArea(), worker);
 
-        int closest = Integer.MAX_VALUE;
         LivingEntity targetEntity = null;
 
+        // Closest first, so the line of sight only needs to be checked until the first visible target.
         for (final LivingEntity entity : entities)
         {
             if (!entity.isAlive())
@@ -1026,7 +1028,7 @@ public abstract class AbstractEntityAIGuard<J extends AbstractJobGuard<J>, B ext
             {
                 final EntityCitizen citizen = (EntityCitizen) entity;
                 if (citizen.getCitizenJobHandler().getColonyJob() instanceof AbstractJobGuard && ((AbstractJobGuard<?>) citizen.getCitizenJobHandler().getColonyJob()).isAsleep()
-                      && worker.canEntityBeSeen(entity))
+                      && threatIndex.canSee(worker, entity))
                 {
                     sleepingGuard = new WeakReference<>(citizen);
                     wakeTimer = 0;
@@ -1035,15 +1037,10 @@ public abstract class AbstractEntityAIGuard<J extends AbstractJobGuard<J>, B ext
                 }
             }
 
-            if (isEntityValidTarget(entity) && worker.canEntityBeSeen(entity))
+            if (isEntityValidTarget(entity) && threatIndex.canSee(worker, entity))
             {
-                // Find closest
-                final int tempDistance = (int) BlockPosUtil.getDistanceSquared(worker.getPosition(), new BlockPos(entity.getPositionVec()));
-                if (tempDistance < closest)
-                {
-                    closest = tempDistance;
-                    targetEntity = entity;
-                }
+                targetEntity = entity;
+                break;
             }
         }
 
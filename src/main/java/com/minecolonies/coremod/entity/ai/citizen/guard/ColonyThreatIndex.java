@@ -0,0 +1,141 @@
+package com.minecolonies.coremod.entity.ai.citizen.guard;
+
+import it.unimi.dsi.fastutil.longs.Long2LongMap;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Colony wide index of the living entities around the guards, shared by all guards of the colony. The entities of a chunk are collected once per tick on the first
+ * query touching it, and line of sight checks between two entities are cached for a short time.
+ */
+public class ColonyThreatIndex
+{
+    /**
+     * Ticks a line of sight result is reused.
+     */
+    private static final int LINE_OF_SIGHT_TTL = 10;
+
+    /**
+     * The living entities by chunk, collected during the current tick.
+     */
+    private final Long2ObjectMap<List<LivingEntity>> cells = new Long2ObjectOpenHashMap<>();
+
+    /**
+     * The game time the cells were collected at.
+     */
+    private long cellTime = -1;
+
+    /**
+     * Line of sight results by observer and target id, the expiry time shifted left by one with the result in the lowest bit.
+     */
+    private final Long2LongMap sightCache = new Long2LongOpenHashMap();
+
+    /**
+     * Get the living entities in an area, closest to the observer first.
+     *
+     * @param world    the world.
+     * @param area     the area.
+     * @param observer the entity searching.
+     * @return the sorted list of entities.
+     */
+    @NotNull
+    public List<LivingEntity> getEntitiesByDistance(@NotNull final World world, @NotNull final AxisAlignedBB area, @NotNull final Entity observer)
+    {
+        refresh(world);
+
+        final List<LivingEntity> entities = new ArrayList<>();
+        final Set<LivingEntity> seen = new ReferenceOpenHashSet<>();
+        for (int chunkX = (int) Math.floor(area.minX) >> 4; chunkX <= (int) Math.floor(area.maxX) >> 4; chunkX++)
+        {
+            for (int chunkZ = (int) Math.floor(area.minZ) >> 4; chunkZ <= (int) Math.floor(area.maxZ) >> 4; chunkZ++)
+            {
+                for (final LivingEntity entity : getCell(world, chunkX, chunkZ))
+                {
+                    if (entity.getBoundingBox().intersects(area) && seen.add(entity))
+                    {
+                        entities.add(entity);
+                    }
+                }
+            }
+        }
+
+        entities.sort(Comparator.comparingDouble(observer::getDistanceSq));
+        return entities;
+    }
+
+    /**
+     * Check if the observer can see the target, reusing recent results.
+     *
+     * @param observer the observing entity.
+     * @param target   the target entity.
+     * @return true if there is a line of sight.
+     */
+    public boolean canSee(@NotNull final LivingEntity observer, @NotNull final Entity target)
+    {
+        final long time = observer.world.getGameTime();
+        final long key = ((long) observer.getEntityId() << 32) | (target.getEntityId() & 0xFFFFFFFFL);
+        if (sightCache.containsKey(key))
+        {
+            final long value = sightCache.get(key);
+            if ((value >> 1) >= time)
+            {
+                return (value & 1) != 0;
+            }
+        }
+
+        final boolean visible = observer.canEntityBeSeen(target);
+        sightCache.put(key, ((time + LINE_OF_SIGHT_TTL) << 1) | (visible ? 1 : 0));
+        return visible;
+    }
+
+    /**
+     * Drop the collected entities and expired line of sight results once per tick.
+     *
+     * @param world the world.
+     */
+    private void refresh(final World world)
+    {
+        final long time = world.getGameTime();
+        if (time == cellTime)
+        {
+            return;
+        }
+
+        cellTime = time;
+        cells.clear();
+        sightCache.long2LongEntrySet().removeIf(entry -> (entry.getLongValue() >> 1) < time);
+    }
+
+    /**
+     * Get the living entities of a chunk, collecting them on first access in a tick.
+     *
+     * @param world  the world.
+     * @param chunkX the chunk x.
+     * @param chunkZ the chunk z.
+     * @return the entities.
+     */
+    private List<LivingEntity> getCell(final World world, final int chunkX, final int chunkZ)
+    {
+        final long key = ChunkPos.asLong(chunkX, chunkZ);
+        List<LivingEntity> entities = cells.get(key);
+        if (entities == null)
+        {
+            entities = world.getLoadedEntitiesWithinAABB(LivingEntity.class, new AxisAlignedBB(chunkX << 4, 0, chunkZ << 4, (chunkX << 4) + 16, world.getHeight(), (chunkZ << 4) + 16));
+            cells.put(key, entities);
+        }
+        return entities;
+    }
+}
@@ -13,6 +13,7 @@ import com.minecolonies.api.entity.ai.statemachine.states.IState;
 import com.minecolonies.api.entity.ai.statemachine.tickratestatemachine.TickRateStateMachine;
 import com.minecolonies.api.entity.ai.statemachine.tickratestatemachine.TickingTransition;
 import com.minecolonies.api.entity.citizen.VisibleCitizenStatus;
+import com.minecolonies.api.research.effects.ResearchEffectIds;
 import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.InventoryUtils;
 import com.minecolonies.api.util.Log;
@@ -49,6 +50,11 @@ import static com.minecolonies.coremod.entity.ai.minimal.EntityAIEatTask.EatingS
  */
 public class EntityAIEatTask extends Goal
 {
+    /**
+     * The research effect id of the saturation effect.
+     */
+    private static final int SATURATION_EFFECT_ID = ResearchEffectIds.getId(SATURATION);
+
     /**
      * Max waiting time for food in minutes..
      */
@@ -258,7 +264,7 @@ public class EntityAIEatTask extends Goal
 
         final Item containerItem = stack.getItem().getContainerItem();
 
-        final double satIncrease = itemFood.getHealing() * (1.0 + citizen.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(SATURATION));
+        final double satIncrease = itemFood.getHealing() * (1.0 + citizen.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(SATURATION_EFFECT_ID));
 
         citizenData.increaseSaturation(satIncrease / 2.0);
         citizenData.getInventory().extractItem(foodSlot, 1, false);
@@ -34,6 +34,7 @@ import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.Network;
 import com.minecolonies.coremod.blocks.BlockMinecoloniesGrave;
 import com.minecolonies.api.colony.GraveData;
+import com.minecolonies.api.research.effects.ResearchEffectIds;
 import com.minecolonies.coremod.colony.buildings.AbstractBuildingGuards;
 import com.minecolonies.coremod.colony.buildings.workerbuildings.BuildingGraveyard;
 import com.minecolonies.coremod.colony.colonyEvents.citizenEvents.CitizenDiedEvent;
@@ -101,6 +102,21 @@ import static com.minecolonies.coremod.entity.ai.minimal.EntityAIInteractToggleA
 @SuppressWarnings({"PMD.ExcessiveImports", "PMD.CouplingBetweenObjects", "PMD.ExcessiveClassLength"})
 public class EntityCitizen extends AbstractEntityCitizen
 {
+    /**
+     * The research effect id of the rails effect.
+     */
+    private static final int RAILS_EFFECT_ID = ResearchEffectIds.getId(RAILS);
+
+    /**
+     * The research effect id of the saturation limit effect.
+     */
+    private static final int SATLIMIT_EFFECT_ID = ResearchEffectIds.getId(SATLIMIT);
+
+    /**
+     * The research effect id of the regeneration effect.
+     */
+    private static final int REGENERATION_EFFECT_ID = ResearchEffectIds.getId(REGENERATION);
+
     /**
      * Cooldown for calling help, in ticks.
      */
@@ -575,11 +591,11 @@ public class EntityCitizen extends AbstractEntityCitizen
             final IColonyView colonyView = IColonyManager.getInstance().getColonyView(citizenColonyHandler.getColonyId(), world.getDimensionKey());
             if (colonyView != null)
             {
-                 return colonyView.getResearchManager().getResearchEffects().getEffectStrength(RAILS) > 0;
+                 return colonyView.getResearchManager().getResearchEffects().getEffectStrength(RAILS_EFFECT_ID) > 0;
             }
             return false;
         }
-        return getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(RAILS) > 0;
+        return getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(RAILS_EFFECT_ID) > 0;
     }
 
     /**
@@ -601,12 +617,12 @@ public class EntityCitizen extends AbstractEntityCitizen
     {
         if (getHealth() < getMaxHealth())
         {
-            final double limitDecrease = getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(SATLIMIT);
+            final double limitDecrease = getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(SATLIMIT_EFFECT_ID);
 
             final double healAmount;
             if (citizenData.getSaturation() >= FULL_SATURATION + limitDecrease)
             {
-                healAmount = 2 * (1.0 + getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(REGENERATION));
+                healAmount = 2 * (1.0 + getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(REGENERATION_EFFECT_ID));
             }
             else if (citizenData.getSaturation() < LOW_SATURATION)
             {
@@ -614,7 +630,7 @@ public class EntityCitizen extends AbstractEntityCitizen
             }
             else
             {
-                healAmount = 1 * (1.0 + getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(REGENERATION));;
+                healAmount = 1 * (1.0 + getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(REGENERATION_EFFECT_ID));;
             }
 
             heal((float) healAmount);
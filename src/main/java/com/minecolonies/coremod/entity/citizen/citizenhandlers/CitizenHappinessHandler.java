@@ -6,7 +6,10 @@ import com.minecolonies.api.colony.interactionhandling.ChatPriority;
 import com.minecolonies.api.colony.interactionhandling.InteractionValidatorRegistry;
 import com.minecolonies.api.entity.citizen.citizenhandlers.ICitizenHappinessHandler;
 import com.minecolonies.api.entity.citizen.happiness.*;
+import com.minecolonies.api.research.effects.ResearchEffectIds;
 import com.minecolonies.api.util.Tuple;
+import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.colony.ColonyHappinessStats;
 import com.minecolonies.coremod.colony.interactionhandling.StandardInteraction;
 import com.minecolonies.coremod.colony.jobs.AbstractJobGuard;
 import com.minecolonies.coremod.colony.jobs.JobPupil;
@@ -28,6 +31,11 @@ import static com.minecolonies.api.util.constant.TranslationConstants.NO;
  */
 public class CitizenHappinessHandler implements ICitizenHappinessHandler
 {
+    /**
+     * The research effect id of the happiness effect.
+     */
+    private static final int HAPPINESS_EFFECT_ID = ResearchEffectIds.getId(HAPPINESS);
+
     /**
      * The different happiness factor.
      */
@@ -143,7 +151,7 @@ public class CitizenHappinessHandler implements ICitizenHappinessHandler
                 totalWeight += happinessModifier.getWeight();
             }
 
-            final double happinessResult = (total / totalWeight) * (1 + colony.getResearchManager().getResearchEffects().getEffectStrength(HAPPINESS));
+            final double happinessResult = (total / totalWeight) * (1 + colony.getResearchManager().getResearchEffects().getEffectStrength(HAPPINESS_EFFECT_ID));
 
             cachedHappiness = Math.min(10.0 * happinessResult, 10);
         }
@@ -202,36 +210,7 @@ public class CitizenHappinessHandler implements ICitizenHappinessHandler
      */
     private double getSocialModifier(final IColony colony)
     {
-        final double total = colony.getCitizenManager().getCitizens().size();
-        double unemployment = 0;
-        double homelessness = 0;
-        double sickPeople = 0;
-        double hungryPeople = 0;
-
-        for (final ICitizenData citizen : colony.getCitizenManager().getCitizens())
-        {
-            if (!citizen.isChild() && citizen.getJob() == null)
-            {
-                unemployment++;
-            }
-
-            if (citizen.getHomeBuilding() == null)
-            {
-                homelessness++;
-            }
-
-            if (citizen.getEntity().isPresent() && citizen.getEntity().get().getCitizenDiseaseHandler().isSick())
-            {
-                sickPeople++;
-            }
-
-            if (citizen.getSaturation() <= 1)
-            {
-                hungryPeople++;
-            }
-        }
-
-        return (total - (unemployment + homelessness + sickPeople + hungryPeople)) / total;
+        return getHappinessStats(colony).getSocialFactor();
     }
 
     /**
@@ -242,20 +221,18 @@ public class CitizenHappinessHandler implements ICitizenHappinessHandler
      */
     private double getGuardFactor(final IColony colony)
     {
-        double guards = 1;
-        double workers = 1;
-        for (final ICitizenData citizen : colony.getCitizenManager().getCitizens())
-        {
-            if (citizen.getJob() instanceof AbstractJobGuard)
-            {
-                guards++;
-            }
-            else
-            {
-                workers++;
-            }
-        }
-        return Math.min(guards / (workers * 2 / 3), 2);
+        return getHappinessStats(colony).getGuardFactor();
+    }
+
+    /**
+     * Get the shared happiness statistics of the colony.
+     *
+     * @param colony the colony.
+     * @return the statistics.
+     */
+    private static ColonyHappinessStats getHappinessStats(final IColony colony)
+    {
+        return colony instanceof Colony ? ((Colony) colony).getHappinessStats() : new ColonyHappinessStats(colony);
     }
 
     /**
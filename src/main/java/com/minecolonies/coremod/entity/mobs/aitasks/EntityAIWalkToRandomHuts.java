@@ -7,6 +7,7 @@ import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.EntityUtils;
 import com.minecolonies.coremod.colony.colonyEvents.raidEvents.HordeRaidEvent;
 import com.minecolonies.coremod.entity.pathfinding.GeneralEntityWalkToProxy;
+import com.minecolonies.coremod.entity.pathfinding.RaidFlowField;
 import net.minecraft.entity.ai.goal.Goal;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
@@ -23,6 +24,21 @@ public class EntityAIWalkToRandomHuts extends Goal
 {
     private static final int THREE_MINUTES_TICKS = 3600;
 
+    /**
+     * Distance to the colony buildings in the raid flow field below which raiders pick their own target building.
+     */
+    private static final int LOCAL_RANGE = 16;
+
+    /**
+     * Amount of flow field cells followed to the next waypoint.
+     */
+    private static final int WAYPOINT_STEPS = 12;
+
+    /**
+     * Ticks the entity walks to its target block directly after getting stuck on the way to a waypoint.
+     */
+    private static final int FLOW_FIELD_PAUSE_TICKS = THREE_MINUTES_TICKS;
+
     /**
      * The moving entity.
      */
@@ -43,6 +59,16 @@ public class EntityAIWalkToRandomHuts extends Goal
      */
     private BlockPos targetBlock;
 
+    /**
+     * The waypoint on the raid flow field the entity walks to, null if it walks to its target block.
+     */
+    private BlockPos flowWaypoint;
+
+    /**
+     * Game time until which the entity ignores the raid flow field, as its last waypoint was unreachable for it.
+     */
+    private long flowFieldPausedUntil = 0;
+
     /**
      * Walk to proxy.
      */
@@ -112,6 +138,15 @@ public class EntityAIWalkToRandomHuts extends Goal
                 return false;
             }
 
+            if (event instanceof HordeRaidEvent)
+            {
+                final RaidFlowField flowField = ((HordeRaidEvent) event).getFlowField();
+                if (flowField != null)
+                {
+                    flowField.update();
+                }
+            }
+
             if (event.getStatus() == EventStatus.PREPARING && event instanceof HordeRaidEvent)
             {
                 walkToCampFire();
@@ -134,6 +169,30 @@ public class EntityAIWalkToRandomHuts extends Goal
         }
         tickTimer = 0;
 
+        if (flowWaypoint != null)
+        {
+            if (!this.isEntityAtSiteWithMove(flowWaypoint, 1))
+            {
+                return;
+            }
+
+            if (isStuck())
+            {
+                // The field would lead to the same waypoint again, walk to a random building for a while instead.
+                flowFieldPausedUntil = world.getGameTime() + FLOW_FIELD_PAUSE_TICKS;
+                targetBlock = getRandomBuilding();
+            }
+            flowWaypoint = null;
+            resetStuckCounters();
+        }
+
+        flowWaypoint = world.getGameTime() < flowFieldPausedUntil ? null : getFlowWaypoint();
+        if (flowWaypoint != null)
+        {
+            this.isEntityAtSiteWithMove(flowWaypoint, 1);
+            return;
+        }
+
         if (this.isEntityAtSiteWithMove(targetBlock, 2))
         {
             targetBlock = getRandomBuilding();
@@ -158,6 +217,7 @@ public class EntityAIWalkToRandomHuts extends Goal
     public void startExecuting()
     {
         targetBlock = getRandomBuilding();
+        flowWaypoint = null;
         hadPath = false;
         resetStuckCounters();
     }
@@ -166,6 +226,7 @@ public class EntityAIWalkToRandomHuts extends Goal
     public void resetTask()
     {
         targetBlock = getRandomBuilding();
+        flowWaypoint = null;
         hadPath = false;
         resetStuckCounters();
     }
@@ -218,12 +279,17 @@ public class EntityAIWalkToRandomHuts extends Goal
 
         hadPath = entity.getNavigator().getPath() != null && !entity.getNavigator().getPath().isFinished();
 
-        if (stuckTime * UPDATE_INTERVAL > THREE_MINUTES_TICKS)
-        {
-            return true;
-        }
+        return isStuck();
+    }
 
-        return false;
+    /**
+     * Check if the entity didn't make progress towards its site for too long.
+     *
+     * @return true if so.
+     */
+    private boolean isStuck()
+    {
+        return stuckTime * UPDATE_INTERVAL > THREE_MINUTES_TICKS;
     }
 
     /**
@@ -241,6 +307,35 @@ public class EntityAIWalkToRandomHuts extends Goal
         return entity.getColony().getRaiderManager().getRandomBuilding();
     }
 
+    /**
+     * Gets the next waypoint on the flow field of the raid, while the entity is still far from the colony buildings.
+     *
+     * @return the waypoint, or null if the entity is close to the buildings or the field doesn't reach it (yet).
+     */
+    private BlockPos getFlowWaypoint()
+    {
+        final IColonyEvent event = entity.getColony().getEventManager().getEventByID(entity.getEventID());
+        if (!(event instanceof HordeRaidEvent))
+        {
+            return null;
+        }
+
+        final RaidFlowField flowField = ((HordeRaidEvent) event).getFlowField();
+        if (flowField == null)
+        {
+            return null;
+        }
+
+        final BlockPos cell = flowField.getCell(entity.getPosition());
+        if (cell == null || flowField.getDistance(cell) <= LOCAL_RANGE)
+        {
+            return null;
+        }
+
+        final BlockPos waypoint = flowField.followGradient(cell, WAYPOINT_STEPS);
+        return waypoint.equals(cell) ? null : waypoint;
+    }
+
     private void walkToCampFire()
     {
         campFireWalkTimer -= 4;
@@ -1,6 +1,10 @@
 package com.minecolonies.coremod.entity.pathfinding;
 
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.IColonyManager;
+import com.minecolonies.api.colony.IColonyTagCapability;
 import com.minecolonies.api.util.WorldUtil;
+import com.minecolonies.coremod.colony.Colony;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.Blocks;
 import net.minecraft.entity.Entity;
@@ -29,13 +33,66 @@ import org.jetbrains.annotations.NotNull;
 
 import javax.annotation.Nullable;
 import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
 import java.util.stream.Stream;
 
+import static com.minecolonies.coremod.MineColonies.CLOSE_COLONY_CAP;
+
 public class ChunkCache implements IWorldReader
 {
+    /**
+     * Pathing flags cached per position, every flag uses two bits: whether it was computed already and its value.
+     */
+    public static final int FLAG_PASSABLE      = 0;
+    public static final int FLAG_PASSABLE_FEET = 1;
+    public static final int FLAG_PASSABLE_HEAD = 2;
+    public static final int FLAG_LADDER        = 3;
+    public static final int FLAG_ROAD          = 4;
+    public static final int FLAG_WATER         = 5;
+
+    /**
+     * The cached surface type is stored above the boolean flags, as computed bit followed by two value bits.
+     */
+    private static final int SURFACE_SHIFT      = 12;
+    private static final int SURFACE_COMPUTED   = 0b100;
+    private static final int SURFACE_VALUE_MASK = 0b11;
+    private static final int SURFACE_MASK       = 0b111 << SURFACE_SHIFT;
+
+    /**
+     * Flags which only depend on the block itself and are shared colony wide through the {@link ColonyPathingGrid}, the surface type is always shared.
+     */
+    private static final int SHARED_FLAGS = (1 << FLAG_ROAD) | (1 << FLAG_WATER);
+
+    /**
+     * Size of a chunk section in each direction and the amount of sections per chunk.
+     */
+    private static final int SECTION_SIZE  = 16;
+    private static final int SECTION_COUNT = 16;
+
     protected int       chunkX;
     protected int       chunkZ;
     protected Chunk[][] chunkArray;
+
+    /**
+     * Lazily allocated pathing flags, one array of 16x16x16 entries per touched chunk section.
+     */
+    private final short[][] pathingFlags;
+
+    /**
+     * The colony navigation grid of each chunk, null for chunks outside of colonies.
+     */
+    private final ColonyPathingGrid[][] colonyGrids;
+
+    /**
+     * The version of the colony grid of each chunk when this cache was created, values are only shared while it is unchanged.
+     */
+    private final int[][] colonyGridVersions;
+
+    /**
+     * Lazily resolved colony grid sections, same indices as the pathing flags.
+     */
+    private final ColonyPathingGrid.Section[] sharedSections;
+
     /**
      * set by !chunk.getAreLevelsEmpty
      */
@@ -53,6 +110,8 @@ public class ChunkCache implements IWorldReader
         int i = posToIn.getX() + subIn >> 4;
         int j = posToIn.getZ() + subIn >> 4;
         this.chunkArray = new Chunk[i - this.chunkX + 1][j - this.chunkZ + 1];
+        this.colonyGrids = new ColonyPathingGrid[i - this.chunkX + 1][j - this.chunkZ + 1];
+        this.colonyGridVersions = new int[i - this.chunkX + 1][j - this.chunkZ + 1];
         this.empty = true;
 
         for (int k = this.chunkX; k <= i; ++k)
@@ -61,10 +120,254 @@ public class ChunkCache implements IWorldReader
             {
                 if (WorldUtil.isEntityChunkLoaded(world, new ChunkPos(k, l)))
                 {
-                    this.chunkArray[k - this.chunkX][l - this.chunkZ] = (Chunk) worldIn.getChunk(k, l, ChunkStatus.FULL, false);
+                    final Chunk chunk = (Chunk) worldIn.getChunk(k, l, ChunkStatus.FULL, false);
+                    this.chunkArray[k - this.chunkX][l - this.chunkZ] = chunk;
+                    if (chunk != null)
+                    {
+                        final ColonyPathingGrid grid = findColonyGrid(chunk);
+                        if (grid != null)
+                        {
+                            this.colonyGrids[k - this.chunkX][l - this.chunkZ] = grid;
+                            this.colonyGridVersions[k - this.chunkX][l - this.chunkZ] = grid.getVersion();
+                        }
+                    }
                 }
             }
         }
+
+        this.pathingFlags = new short[chunkArray.length * chunkArray[0].length * SECTION_COUNT][];
+        this.sharedSections = new ColonyPathingGrid.Section[pathingFlags.length];
+    }
+
+    /**
+     * Get the navigation grid of the colony owning the chunk.
+     *
+     * @param chunk the chunk.
+     * @return the grid or null if not owned by a colony.
+     */
+    @Nullable
+    private ColonyPathingGrid findColonyGrid(final Chunk chunk)
+    {
+        final int owningColony = chunk.getCapability(CLOSE_COLONY_CAP, null).map(IColonyTagCapability::getOwningColony).orElse(0);
+        if (owningColony == 0)
+        {
+            return null;
+        }
+
+        final IColony colony = IColonyManager.getInstance().getColonyByDimension(owningColony, world.getDimensionKey());
+        return colony instanceof Colony ? ((Colony) colony).getPathingGrid() : null;
+    }
+
+    /**
+     * Get the navigation grid of the colony owning a cached chunk.
+     *
+     * @param x the chunk x.
+     * @param z the chunk z.
+     * @return the grid or null if the chunk is not cached or not owned by a colony.
+     */
+    @Nullable
+    public ColonyPathingGrid getColonyGrid(final int x, final int z)
+    {
+        final int i = x - this.chunkX;
+        final int j = z - this.chunkZ;
+        return withinBounds(i, j) ? colonyGrids[i][j] : null;
+    }
+
+    /**
+     * Check if a chunk is part of this cache and loaded.
+     *
+     * @param x the chunk x.
+     * @param z the chunk z.
+     * @return true if so.
+     */
+    public boolean isChunkCached(final int x, final int z)
+    {
+        return withinBounds(x - this.chunkX, z - this.chunkZ);
+    }
+
+    /**
+     * Get a cached boolean pathing flag of a position, computing it on first access.
+     *
+     * @param pos     the position.
+     * @param flag    the flag id, one of the FLAG_ constants.
+     * @param compute the computation of the flag value.
+     * @return the flag value.
+     */
+    public boolean getPathingFlag(final BlockPos pos, final int flag, final Predicate<BlockPos> compute)
+    {
+        final int sectionIndex = getSectionIndex(pos);
+        if (sectionIndex < 0)
+        {
+            return compute.test(pos);
+        }
+
+        final int index = getFlagIndex(pos);
+        final int computedBit = 1 << (flag * 2);
+        final int valueBit = computedBit << 1;
+
+        final ColonyPathingGrid.Section shared = (SHARED_FLAGS & (1 << flag)) != 0 ? getSharedSection(sectionIndex, pos) : null;
+        if (shared != null)
+        {
+            final int entry = shared.getEntry(index);
+            if ((entry & computedBit) != 0)
+            {
+                return (entry & valueBit) != 0;
+            }
+
+            final boolean value = compute.test(pos);
+            if (isGridUnchanged(pos))
+            {
+                shared.publish(index, entry, computedBit | (value ? valueBit : 0));
+            }
+            return value;
+        }
+
+        final short[] section = getFlagSection(sectionIndex);
+        final int flags = section[index];
+        if ((flags & computedBit) != 0)
+        {
+            return (flags & valueBit) != 0;
+        }
+
+        final boolean value = compute.test(pos);
+        // Re-read, the computation might have cached other flags of the same position.
+        section[index] = (short) (section[index] | computedBit | (value ? valueBit : 0));
+        return value;
+    }
+
+    /**
+     * Get the cached surface type ordinal of a position, computing it on first access.
+     *
+     * @param pos     the position.
+     * @param compute the computation of the surface type ordinal, at most 3.
+     * @return the surface type ordinal.
+     */
+    public int getPathingSurface(final BlockPos pos, final ToIntFunction<BlockPos> compute)
+    {
+        final int sectionIndex = getSectionIndex(pos);
+        if (sectionIndex < 0)
+        {
+            return compute.applyAsInt(pos);
+        }
+
+        final int index = getFlagIndex(pos);
+        final ColonyPathingGrid.Section shared = getSharedSection(sectionIndex, pos);
+        if (shared != null)
+        {
+            final int entry = shared.getEntry(index);
+            final int surface = (entry & SURFACE_MASK) >> SURFACE_SHIFT;
+            if (surface != 0)
+            {
+                return surface & SURFACE_VALUE_MASK;
+            }
+
+            final int value = compute.applyAsInt(pos);
+            if (isGridUnchanged(pos))
+            {
+                shared.publish(index, entry, (SURFACE_COMPUTED | (value & SURFACE_VALUE_MASK)) << SURFACE_SHIFT);
+            }
+            return value;
+        }
+
+        final short[] section = getFlagSection(sectionIndex);
+        final int surface = section[index] >> SURFACE_SHIFT;
+        if (surface != 0)
+        {
+            return surface & SURFACE_VALUE_MASK;
+        }
+
+        final int value = compute.applyAsInt(pos);
+        section[index] = (short) (section[index] | ((SURFACE_COMPUTED | (value & SURFACE_VALUE_MASK)) << SURFACE_SHIFT));
+        return value;
+    }
+
+    /**
+     * Get the index of the chunk section of a position.
+     *
+     * @param pos the position.
+     * @return the index or -1 if the position is not cached.
+     */
+    private int getSectionIndex(final BlockPos pos)
+    {
+        if (pos.getY() < 0 || pos.getY() >= SECTION_SIZE * SECTION_COUNT)
+        {
+            return -1;
+        }
+
+        final int i = (pos.getX() >> 4) - this.chunkX;
+        final int j = (pos.getZ() >> 4) - this.chunkZ;
+        if (!withinBounds(i, j))
+        {
+            return -1;
+        }
+
+        return ((i * chunkArray[0].length) + j) * SECTION_COUNT + (pos.getY() >> 4);
+    }
+
+    /**
+     * Get the job local flag section, allocating it if necessary.
+     *
+     * @param sectionIndex the section index.
+     * @return the section.
+     */
+    private short[] getFlagSection(final int sectionIndex)
+    {
+        short[] section = pathingFlags[sectionIndex];
+        if (section == null)
+        {
+            section = new short[SECTION_SIZE * SECTION_SIZE * SECTION_SIZE];
+            pathingFlags[sectionIndex] = section;
+        }
+        return section;
+    }
+
+    /**
+     * Get the colony wide grid section of a position.
+     *
+     * @param sectionIndex the section index.
+     * @param pos          the position.
+     * @return the section or null if the chunk is not part of a colony.
+     */
+    @Nullable
+    private ColonyPathingGrid.Section getSharedSection(final int sectionIndex, final BlockPos pos)
+    {
+        final ColonyPathingGrid grid = colonyGrids[(pos.getX() >> 4) - this.chunkX][(pos.getZ() >> 4) - this.chunkZ];
+        if (grid == null)
+        {
+            return null;
+        }
+
+        ColonyPathingGrid.Section section = sharedSections[sectionIndex];
+        if (section == null)
+        {
+            section = grid.getSection(pos.getX() >> 4, pos.getY() >> 4, pos.getZ() >> 4);
+            sharedSections[sectionIndex] = section;
+        }
+        return section;
+    }
+
+    /**
+     * Check if the colony grid of a position did not change since this cache was created, values computed by the job may only be shared then.
+     *
+     * @param pos the position.
+     * @return true if so.
+     */
+    private boolean isGridUnchanged(final BlockPos pos)
+    {
+        final int i = (pos.getX() >> 4) - this.chunkX;
+        final int j = (pos.getZ() >> 4) - this.chunkZ;
+        return colonyGrids[i][j].getVersion() == colonyGridVersions[i][j];
+    }
+
+    /**
+     * Get the index of a position within its flag section.
+     *
+     * @param pos the position.
+     * @return the index.
+     */
+    static int getFlagIndex(final BlockPos pos)
+    {
+        return ((pos.getY() & 15) << 8) | ((pos.getZ() & 15) << 4) | (pos.getX() & 15);
     }
 
     /**
@@ -181,7 +484,13 @@ public class ChunkCache implements IWorldReader
     @Override
     public int getHeight(final Heightmap.Type heightmapType, final int x, final int z)
     {
-        return 0;
+        final int i = (x >> 4) - this.chunkX;
+        final int j = (z >> 4) - this.chunkZ;
+        if (!withinBounds(i, j))
+        {
+            return 0;
+        }
+        return this.chunkArray[i][j].getTopBlockY(heightmapType, x & 15, z & 15) + 1;
     }
 
     @Override
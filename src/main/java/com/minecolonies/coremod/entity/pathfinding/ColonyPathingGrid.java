@@ -0,0 +1,255 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.SectionPos;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Colony wide navigation grid, shares the block intrinsic pathing flags (road, water and surface type) and the portals between chunks of the loaded colony chunks
+ * between all path jobs. Entries are filled lazily by the pathfinding threads and updated from block changes on the server thread. Path jobs only publish values if the
+ * grid did not change since they were started, and publish them with a compare and set against the entry they read, so concurrent writes don't lose bits and values
+ * computed before a block change are not written back.
+ */
+public class ColonyPathingGrid
+{
+    /**
+     * Time after which a section is discarded, to bound staleness from block changes which don't notify their neighbours.
+     */
+    private static final long SECTION_LIFETIME_MS = 5 * 60 * 1000;
+
+    /**
+     * Amount of chunk sections per chunk.
+     */
+    private static final int SECTION_COUNT = 16;
+
+    /**
+     * Portal bits per chunk, for the borders towards the chunk east (positive x) and south (positive z) of it.
+     */
+    private static final byte PORTAL_EAST_KNOWN  = 1;
+    private static final byte PORTAL_EAST        = 2;
+    private static final byte PORTAL_SOUTH_KNOWN = 4;
+    private static final byte PORTAL_SOUTH       = 8;
+
+    /**
+     * Bits of a section entry above the flags, counting the changes of the entry.
+     */
+    private static final int CHANGE_SHIFT = 16;
+
+    /**
+     * Incremented on every change on the server thread, captured by the path jobs when they start.
+     */
+    private volatile int version = 0;
+
+    /**
+     * The grid sections by section position.
+     */
+    private final Map<Long, Section> sections = new ConcurrentHashMap<>();
+
+    /**
+     * The cached inter chunk portals by chunk position.
+     */
+    private final Map<Long, Byte> portals = new ConcurrentHashMap<>();
+
+    /**
+     * A 16x16x16 section of the grid.
+     */
+    public static class Section
+    {
+        /**
+         * The cached flags, same layout as the {@link ChunkCache} flags in the low bits and a change counter above them.
+         */
+        private final AtomicIntegerArray flags = new AtomicIntegerArray(16 * 16 * 16);
+
+        /**
+         * Time of creation, used for expiry.
+         */
+        private final long created = System.currentTimeMillis();
+
+        /**
+         * Get an entry of this section, pass it to {@link #publish(int, int, int)} when adding flags to it.
+         *
+         * @param index the index of the position.
+         * @return the entry, the flags are its low 16 bits.
+         */
+        int getEntry(final int index)
+        {
+            return flags.get(index);
+        }
+
+        /**
+         * Add flags to an entry, unless its block changed since the entry was read. Flags added by other jobs meanwhile are kept.
+         *
+         * @param index    the index of the position.
+         * @param expected the entry as read before computing the flags.
+         * @param bits     the flag bits to add.
+         */
+        void publish(final int index, final int expected, final int bits)
+        {
+            int entry = expected;
+            while (!flags.compareAndSet(index, entry, entry | bits))
+            {
+                entry = flags.get(index);
+                if (entry >>> CHANGE_SHIFT != expected >>> CHANGE_SHIFT)
+                {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Clear the flags of an entry and count the change, so values computed before are rejected by {@link #publish(int, int, int)}.
+         *
+         * @param index the index of the position.
+         */
+        private void clear(final int index)
+        {
+            int entry;
+            do
+            {
+                entry = flags.get(index);
+            }
+            while (!flags.compareAndSet(index, entry, ((entry >>> CHANGE_SHIFT) + 1) << CHANGE_SHIFT));
+        }
+
+        /**
+         * Check if the section is too old to be used.
+         *
+         * @param now the current time.
+         * @return true if so.
+         */
+        private boolean isExpired(final long now)
+        {
+            return now - created > SECTION_LIFETIME_MS;
+        }
+    }
+
+    /**
+     * Get the current version of the grid.
+     *
+     * @return the version.
+     */
+    public int getVersion()
+    {
+        return version;
+    }
+
+    /**
+     * Get the grid section of the given chunk section, creating it if necessary.
+     *
+     * @param chunkX   the chunk x.
+     * @param sectionY the section y.
+     * @param chunkZ   the chunk z.
+     * @return the section.
+     */
+    @NotNull
+    public Section getSection(final int chunkX, final int sectionY, final int chunkZ)
+    {
+        final long key = SectionPos.asLong(chunkX, sectionY, chunkZ);
+        final long now = System.currentTimeMillis();
+        return sections.compute(key, (k, section) -> section == null || section.isExpired(now) ? new Section() : section);
+    }
+
+    /**
+     * Get the cached portal state between two horizontally adjacent chunks.
+     *
+     * @param fromX the x of the first chunk.
+     * @param fromZ the z of the first chunk.
+     * @param toX   the x of the second chunk.
+     * @param toZ   the z of the second chunk.
+     * @return true if they are connected, false if not, null if unknown.
+     */
+    @Nullable
+    public Boolean getPortal(final int fromX, final int fromZ, final int toX, final int toZ)
+    {
+        final Byte bits = portals.get(ChunkPos.asLong(Math.min(fromX, toX), Math.min(fromZ, toZ)));
+        if (bits == null)
+        {
+            return null;
+        }
+
+        final boolean east = fromZ == toZ;
+        if ((bits & (east ? PORTAL_EAST_KNOWN : PORTAL_SOUTH_KNOWN)) == 0)
+        {
+            return null;
+        }
+        return (bits & (east ? PORTAL_EAST : PORTAL_SOUTH)) != 0;
+    }
+
+    /**
+     * Cache the portal state between two horizontally adjacent chunks.
+     *
+     * @param fromX     the x of the first chunk.
+     * @param fromZ     the z of the first chunk.
+     * @param toX       the x of the second chunk.
+     * @param toZ       the z of the second chunk.
+     * @param connected whether they are connected.
+     */
+    public void setPortal(final int fromX, final int fromZ, final int toX, final int toZ, final boolean connected)
+    {
+        final boolean east = fromZ == toZ;
+        final int bits = east ? (PORTAL_EAST_KNOWN | (connected ? PORTAL_EAST : 0)) : (PORTAL_SOUTH_KNOWN | (connected ? PORTAL_SOUTH : 0));
+        portals.merge(ChunkPos.asLong(Math.min(fromX, toX), Math.min(fromZ, toZ)), (byte) bits, (oldBits, newBits) -> (byte) (oldBits | newBits));
+    }
+
+    /**
+     * Clear the cached flags of a changed block.
+     *
+     * @param pos the position of the block.
+     */
+    public void onBlockChanged(@NotNull final BlockPos pos)
+    {
+        // Count the change before clearing, so jobs reading the cleared entry see the new version.
+        version++;
+        final Section section = sections.get(SectionPos.asLong(pos.getX() >> 4, pos.getY() >> 4, pos.getZ() >> 4));
+        if (section != null)
+        {
+            section.clear(ChunkCache.getFlagIndex(pos));
+        }
+        removePortals(pos.getX() >> 4, pos.getZ() >> 4);
+    }
+
+    /**
+     * Drop the cached portals touching a chunk.
+     *
+     * @param chunkX the chunk x.
+     * @param chunkZ the chunk z.
+     */
+    private void removePortals(final int chunkX, final int chunkZ)
+    {
+        portals.remove(ChunkPos.asLong(chunkX, chunkZ));
+        portals.computeIfPresent(ChunkPos.asLong(chunkX - 1, chunkZ), (key, bits) -> (byte) (bits & ~(PORTAL_EAST_KNOWN | PORTAL_EAST)));
+        portals.computeIfPresent(ChunkPos.asLong(chunkX, chunkZ - 1), (key, bits) -> (byte) (bits & ~(PORTAL_SOUTH_KNOWN | PORTAL_SOUTH)));
+    }
+
+    /**
+     * Drop all sections of an unloaded chunk.
+     *
+     * @param chunkX the chunk x.
+     * @param chunkZ the chunk z.
+     */
+    public void removeChunk(final int chunkX, final int chunkZ)
+    {
+        version++;
+        for (int y = 0; y < SECTION_COUNT; y++)
+        {
+            sections.remove(SectionPos.asLong(chunkX, y, chunkZ));
+        }
+        removePortals(chunkX, chunkZ);
+    }
+
+    /**
+     * Drop all sections.
+     */
+    public void clear()
+    {
+        version++;
+        sections.clear();
+        portals.clear();
+    }
+}
@@ -49,6 +49,11 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
     public static final  int    MAX_SPEED_ALLOWED        = 2;
     public static final  double MIN_SPEED_ALLOWED        = 0.1;
 
+    /**
+     * Horizontal distance above which the region based hierarchical search is used.
+     */
+    private static final int HIERARCHICAL_PATH_DISTANCE = 64;
+
     @Nullable
     private PathResult<AbstractPathJob> pathResult;
 
@@ -163,6 +168,25 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
       @NotNull final AbstractPathJob job,
       final BlockPos dest,
       final double speedFactor)
+    {
+        return setPathJob(job, dest, speedFactor, null);
+    }
+
+    /**
+     * Set the path job, completing it with the known path if given instead of queueing it.
+     *
+     * @param job         the job.
+     * @param dest        the destination.
+     * @param speedFactor the speed factor.
+     * @param knownPath   the already known path or null.
+     * @return the path result.
+     */
+    @Nullable
+    private PathResult setPathJob(
+      @NotNull final AbstractPathJob job,
+      final BlockPos dest,
+      final double speedFactor,
+      @Nullable final Path knownPath)
     {
         clearPath();
 
@@ -183,7 +207,14 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
 
         job.setPathingOptions(getPathingOptions());
         pathResult = job.getResult();
-        pathResult.startJob(Pathfinding.getExecutor());
+        if (knownPath != null)
+        {
+            pathResult.setKnownPath(knownPath);
+        }
+        else
+        {
+            pathResult.startJob(Pathfinding.getExecutor());
+        }
         return pathResult;
     }
 
@@ -265,13 +296,20 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
         @NotNull final BlockPos start = AbstractPathJob.prepareStart(ourEntity);
         desiredPos = new BlockPos(newX, newY, newZ);
 
-        return setPathJob(
-          new PathJobMoveToLocation(CompatibilityUtils.getWorldFromEntity(ourEntity),
-            start,
-            desiredPos,
-            (int) ourEntity.getAttribute(Attributes.FOLLOW_RANGE).getValue(),
-            ourEntity),
-          desiredPos, speedFactor);
+        final World pathWorld = CompatibilityUtils.getWorldFromEntity(ourEntity);
+        final int range = (int) ourEntity.getAttribute(Attributes.FOLLOW_RANGE).getValue();
+        final Path cachedPath = PathCache.getPath(pathWorld, start, desiredPos, getPathingOptions());
+        if (cachedPath != null)
+        {
+            return setPathJob(new PathJobMoveToLocation(pathWorld, start, desiredPos, range, ourEntity), desiredPos, speedFactor, cachedPath);
+        }
+
+        if (BlockPosUtil.getDistanceSquared2D(start, desiredPos) > HIERARCHICAL_PATH_DISTANCE * HIERARCHICAL_PATH_DISTANCE)
+        {
+            return setPathJob(new PathJobMoveToLocationHierarchical(pathWorld, start, desiredPos, range, ourEntity), desiredPos, speedFactor);
+        }
+
+        return setPathJob(new PathJobMoveToLocation(pathWorld, start, desiredPos, range, ourEntity), desiredPos, speedFactor);
     }
 
     @Override
@@ -454,6 +492,12 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
 
     private boolean processCompletedCalculationResult()
     {
+        // Only plain routes are shared, jobs with their own passable checks find routes ordinary citizens can't walk.
+        final Class<?> jobClass = pathResult.getJob() == null ? null : pathResult.getJob().getClass();
+        if ((jobClass == PathJobMoveToLocation.class || jobClass == PathJobMoveToLocationHierarchical.class) && pathResult.isPathReachingDestination())
+        {
+            PathCache.putPath(CompatibilityUtils.getWorldFromEntity(ourEntity), pathResult.getPath(), getPathingOptions());
+        }
         setPath(pathResult.getPath(), getSpeedFactor());
         pathResult.setStatus(PathFindingStatus.IN_PROGRESS_FOLLOWING);
         return false;
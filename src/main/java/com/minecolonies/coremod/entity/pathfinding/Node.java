@@ -93,6 +93,11 @@ public class Node implements Comparable<Node>
      */
     private boolean isReachedByWorker = false;
 
+    /**
+     * Index of the node in the open node heap.
+     */
+    private int heapIndex = NodeHeap.NOT_IN_HEAP;
+
     /**
      * Create initial Node.
      *
@@ -402,4 +407,24 @@ public class Node implements Comparable<Node>
     {
         return isCornerNode;
     }
+
+    /**
+     * Get the index of the node in the open node heap.
+     *
+     * @return the index or {@link NodeHeap#NOT_IN_HEAP}.
+     */
+    int getHeapIndex()
+    {
+        return heapIndex;
+    }
+
+    /**
+     * Set the index of the node in the open node heap.
+     *
+     * @param heapIndex the index.
+     */
+    void setHeapIndex(final int heapIndex)
+    {
+        this.heapIndex = heapIndex;
+    }
 }
@@ -0,0 +1,188 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Indexed binary min-heap of open nodes. Every node remembers its index in the heap, which allows constant time contains checks and logarithmic decrease-key
+ * operations without the linear remove and re-insert a {@link java.util.PriorityQueue} requires.
+ */
+public class NodeHeap
+{
+    /**
+     * Index of nodes which are not part of the heap.
+     */
+    static final int NOT_IN_HEAP = -1;
+
+    /**
+     * The heap array.
+     */
+    private Node[] heap;
+
+    /**
+     * The amount of nodes in the heap.
+     */
+    private int size = 0;
+
+    /**
+     * Create a new heap.
+     *
+     * @param initialCapacity the initial capacity.
+     */
+    public NodeHeap(final int initialCapacity)
+    {
+        heap = new Node[Math.max(1, initialCapacity)];
+    }
+
+    /**
+     * Check if the heap is empty.
+     *
+     * @return true if so.
+     */
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    /**
+     * Get the amount of nodes in the heap.
+     *
+     * @return the size.
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Check if the node is currently part of the heap.
+     *
+     * @param node the node to check.
+     * @return true if so.
+     */
+    public boolean contains(@NotNull final Node node)
+    {
+        final int index = node.getHeapIndex();
+        return index != NOT_IN_HEAP && index < size && heap[index] == node;
+    }
+
+    /**
+     * Add a node to the heap, or restore the heap order if the node is already part of it and its score decreased.
+     *
+     * @param node the node to add or update.
+     */
+    public void offer(@NotNull final Node node)
+    {
+        if (contains(node))
+        {
+            siftUp(node.getHeapIndex());
+            return;
+        }
+
+        if (size == heap.length)
+        {
+            heap = Arrays.copyOf(heap, size * 2);
+        }
+
+        heap[size] = node;
+        node.setHeapIndex(size);
+        siftUp(size++);
+    }
+
+    /**
+     * Remove all nodes from the heap.
+     */
+    public void clear()
+    {
+        for (int i = 0; i < size; i++)
+        {
+            heap[i].setHeapIndex(NOT_IN_HEAP);
+            heap[i] = null;
+        }
+        size = 0;
+    }
+
+    /**
+     * Remove and return the node with the lowest score.
+     *
+     * @return the node or null if empty.
+     */
+    @Nullable
+    public Node poll()
+    {
+        if (size == 0)
+        {
+            return null;
+        }
+
+        final Node first = heap[0];
+        first.setHeapIndex(NOT_IN_HEAP);
+
+        final Node last = heap[--size];
+        heap[size] = null;
+        if (size > 0)
+        {
+            heap[0] = last;
+            last.setHeapIndex(0);
+            siftDown(0);
+        }
+        return first;
+    }
+
+    /**
+     * Move the node at the given index up until the heap order is restored.
+     *
+     * @param index the index.
+     */
+    private void siftUp(int index)
+    {
+        final Node node = heap[index];
+        while (index > 0)
+        {
+            final int parentIndex = (index - 1) >>> 1;
+            final Node parent = heap[parentIndex];
+            if (node.compareTo(parent) >= 0)
+            {
+                break;
+            }
+            heap[index] = parent;
+            parent.setHeapIndex(index);
+            index = parentIndex;
+        }
+        heap[index] = node;
+        node.setHeapIndex(index);
+    }
+
+    /**
+     * Move the node at the given index down until the heap order is restored.
+     *
+     * @param index the index.
+     */
+    private void siftDown(int index)
+    {
+        final Node node = heap[index];
+        final int half = size >>> 1;
+        while (index < half)
+        {
+            int childIndex = (index << 1) + 1;
+            Node child = heap[childIndex];
+            final int rightIndex = childIndex + 1;
+            if (rightIndex < size && heap[rightIndex].compareTo(child) < 0)
+            {
+                childIndex = rightIndex;
+                child = heap[rightIndex];
+            }
+            if (node.compareTo(child) <= 0)
+            {
+                break;
+            }
+            heap[index] = child;
+            child.setHeapIndex(index);
+            index = childIndex;
+        }
+        heap[index] = node;
+        node.setHeapIndex(index);
+    }
+}
@@ -0,0 +1,323 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import com.minecolonies.api.entity.pathfinding.PathingOptions;
+import com.minecolonies.coremod.MineColonies;
+import net.minecraft.pathfinding.Path;
+import net.minecraft.pathfinding.PathPoint;
+import net.minecraft.util.RegistryKey;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MutableBoundingBox;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * LRU cache of complete paths by target, reused for entities which start somewhere along a cached path to the same target. Entries are dropped on block changes within
+ * the bounding box of their route.
+ */
+public final class PathCache
+{
+    /**
+     * The cached routes in access order.
+     */
+    private static final LinkedHashMap<RouteKey, CachedRoute> routes = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * The cached routes by the chunks their bounding box touches, for invalidation.
+     */
+    private static final Map<ChunkKey, Set<RouteKey>> routesByChunk = new HashMap<>();
+
+    /**
+     * Cache statistics.
+     */
+    private static long hits   = 0;
+    private static long misses = 0;
+
+    /**
+     * Key of a cached route.
+     */
+    private static final class RouteKey
+    {
+        private final RegistryKey<World> dimension;
+        private final BlockPos           target;
+        private final int                options;
+
+        private RouteKey(final RegistryKey<World> dimension, final BlockPos target, final PathingOptions options)
+        {
+            this.dimension = dimension;
+            this.target = target;
+            this.options = (options.canSwim() ? 1 : 0) | (options.canUseRails() ? 2 : 0) | (options.canEnterDoors() ? 4 : 0) | (options.canOpenDoors() ? 8 : 0);
+        }
+
+        @Override
+        public boolean equals(final Object o)
+        {
+            if (this == o)
+            {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass())
+            {
+                return false;
+            }
+            final RouteKey other = (RouteKey) o;
+            return options == other.options && dimension.equals(other.dimension) && target.equals(other.target);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return Objects.hash(dimension, target, options);
+        }
+    }
+
+    /**
+     * Key of a chunk in a dimension.
+     */
+    private static final class ChunkKey
+    {
+        private final RegistryKey<World> dimension;
+        private final long               chunk;
+
+        private ChunkKey(final RegistryKey<World> dimension, final long chunk)
+        {
+            this.dimension = dimension;
+            this.chunk = chunk;
+        }
+
+        @Override
+        public boolean equals(final Object o)
+        {
+            if (this == o)
+            {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass())
+            {
+                return false;
+            }
+            final ChunkKey other = (ChunkKey) o;
+            return chunk == other.chunk && dimension.equals(other.dimension);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return Objects.hash(dimension, chunk);
+        }
+    }
+
+    /**
+     * A cached route.
+     */
+    private static final class CachedRoute
+    {
+        private final List<PathPoint>    points;
+        private final BlockPos           target;
+        private final MutableBoundingBox bounds;
+
+        private CachedRoute(final List<PathPoint> points, final BlockPos target)
+        {
+            this.points = points;
+            this.target = target;
+
+            final PathPoint first = points.get(0);
+            this.bounds = new MutableBoundingBox(first.x, first.y, first.z, first.x, first.y, first.z);
+            for (final PathPoint point : points)
+            {
+                bounds.expandTo(new MutableBoundingBox(point.x, point.y, point.z, point.x, point.y, point.z));
+            }
+            bounds.minX--;
+            bounds.minY--;
+            bounds.minZ--;
+            bounds.maxX++;
+            bounds.maxY += 2;
+            bounds.maxZ++;
+        }
+
+        /**
+         * Get the chunks touched by the route bounds.
+         *
+         * @return the chunk positions.
+         */
+        private List<Long> getChunks()
+        {
+            final List<Long> chunks = new ArrayList<>();
+            for (int x = bounds.minX >> 4; x <= bounds.maxX >> 4; x++)
+            {
+                for (int z = bounds.minZ >> 4; z <= bounds.maxZ >> 4; z++)
+                {
+                    chunks.add(ChunkPos.asLong(x, z));
+                }
+            }
+            return chunks;
+        }
+    }
+
+    private PathCache()
+    {
+        //Hides default constructor.
+    }
+
+    /**
+     * Get a path from the start to the target from the cache.
+     *
+     * @param world   the world.
+     * @param start   the start position.
+     * @param target  the target position.
+     * @param options the pathing options of the entity.
+     * @return a new path following the cached route from the start, or null if none is cached.
+     */
+    @Nullable
+    public static synchronized Path getPath(@NotNull final World world, @NotNull final BlockPos start, @NotNull final BlockPos target, @NotNull final PathingOptions options)
+    {
+        if (MineColonies.getConfig().getServer().pathfindingCacheSize.get() <= 0)
+        {
+            return null;
+        }
+
+        final CachedRoute route = routes.get(new RouteKey(world.getDimensionKey(), target, options));
+        if (route != null)
+        {
+            for (int i = 0; i < route.points.size(); i++)
+            {
+                final PathPoint point = route.points.get(i);
+                if (point.x == start.getX() && point.y == start.getY() && point.z == start.getZ())
+                {
+                    hits++;
+                    return new Path(new ArrayList<>(route.points.subList(i, route.points.size())), route.target, true);
+                }
+            }
+        }
+
+        misses++;
+        return null;
+    }
+
+    /**
+     * Store a path which reaches its target.
+     *
+     * @param world   the world.
+     * @param path    the computed path.
+     * @param options the pathing options the path was computed with.
+     */
+    public static synchronized void putPath(@NotNull final World world, @NotNull final Path path, @NotNull final PathingOptions options)
+    {
+        final int maxSize = MineColonies.getConfig().getServer().pathfindingCacheSize.get();
+        if (maxSize <= 0 || !path.reachesTarget() || path.getCurrentPathLength() == 0)
+        {
+            return;
+        }
+
+        final RouteKey key = new RouteKey(world.getDimensionKey(), path.getTarget(), options);
+        final CachedRoute existing = routes.get(key);
+        if (existing != null && existing.points.contains(path.getPathPointFromIndex(0)))
+        {
+            // Already covered by the cached route, e.g. a path served from the cache.
+            return;
+        }
+        removeRoute(key);
+
+        final List<PathPoint> points = new ArrayList<>(path.getCurrentPathLength());
+        for (int i = 0; i < path.getCurrentPathLength(); i++)
+        {
+            points.add(path.getPathPointFromIndex(i));
+        }
+
+        final CachedRoute route = new CachedRoute(points, path.getTarget());
+        routes.put(key, route);
+        for (final long chunk : route.getChunks())
+        {
+            routesByChunk.computeIfAbsent(new ChunkKey(key.dimension, chunk), k -> new HashSet<>()).add(key);
+        }
+
+        while (routes.size() > maxSize)
+        {
+            removeRoute(routes.keySet().iterator().next());
+        }
+    }
+
+    /**
+     * Drop all routes passing near a changed block.
+     *
+     * @param world the world.
+     * @param pos   the changed position.
+     */
+    public static synchronized void onBlockChanged(@NotNull final World world, @NotNull final BlockPos pos)
+    {
+        final Set<RouteKey> keys = routesByChunk.get(new ChunkKey(world.getDimensionKey(), ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4)));
+        if (keys == null)
+        {
+            return;
+        }
+
+        for (final RouteKey key : new ArrayList<>(keys))
+        {
+            final CachedRoute route = routes.get(key);
+            if (route == null || route.bounds.isVecInside(pos))
+            {
+                removeRoute(key);
+            }
+        }
+    }
+
+    /**
+     * Drop all cached routes.
+     */
+    public static synchronized void clear()
+    {
+        routes.clear();
+        routesByChunk.clear();
+    }
+
+    /**
+     * Get the amount of successful cache lookups.
+     *
+     * @return the hit count.
+     */
+    public static synchronized long getHits()
+    {
+        return hits;
+    }
+
+    /**
+     * Get the amount of failed cache lookups.
+     *
+     * @return the miss count.
+     */
+    public static synchronized long getMisses()
+    {
+        return misses;
+    }
+
+    /**
+     * Remove a route and its chunk index entries.
+     *
+     * @param key the route key.
+     */
+    private static void removeRoute(final RouteKey key)
+    {
+        final CachedRoute route = routes.remove(key);
+        if (route == null)
+        {
+            return;
+        }
+
+        for (final long chunk : route.getChunks())
+        {
+            final ChunkKey chunkKey = new ChunkKey(key.dimension, chunk);
+            final Set<RouteKey> keys = routesByChunk.get(chunkKey);
+            if (keys != null)
+            {
+                keys.remove(key);
+                if (keys.isEmpty())
+                {
+                    routesByChunk.remove(chunkKey);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+/**
+ * Scheduling priority of a pathfinding job, jobs with a higher priority are computed first.
+ */
+public enum PathJobPriority
+{
+    /**
+     * Guards, raiders and fleeing entities.
+     */
+    HIGH,
+
+    /**
+     * Regular work related movement.
+     */
+    NORMAL,
+
+    /**
+     * Idle wandering and other optional movement.
+     */
+    LOW
+}
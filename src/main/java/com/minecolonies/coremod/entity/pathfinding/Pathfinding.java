@@ -20,11 +20,13 @@ import net.minecraft.util.math.vector.Vector3d;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.lwjgl.opengl.GL11;
 
 import java.util.ConcurrentModificationException;
 import java.util.Set;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static com.minecolonies.api.util.constant.PathingConstants.debugNodeMonitor;
 
@@ -33,8 +35,30 @@ import static com.minecolonies.api.util.constant.PathingConstants.debugNodeMonit
  */
 public final class Pathfinding
 {
-    private static final BlockingQueue<Runnable> jobQueue = new LinkedBlockingDeque<>();
-    private static       ThreadPoolExecutor      executor;
+    /**
+     * Priority ordered queue of the pending jobs, bounded by the configured max queue size.
+     */
+    private static final PriorityBlockingQueue<Runnable> jobQueue = new PriorityBlockingQueue<>();
+
+    /**
+     * Lock guarding the queue bound check and insertion.
+     */
+    private static final Object queueLock = new Object();
+
+    /**
+     * Counter to keep jobs of the same priority in FIFO order.
+     */
+    private static final AtomicLong jobSequence = new AtomicLong();
+
+    /**
+     * Queue metrics.
+     */
+    private static final AtomicLong startedJobs    = new AtomicLong();
+    private static final AtomicLong droppedJobs    = new AtomicLong();
+    private static final AtomicLong totalWaitNanos = new AtomicLong();
+    private static final AtomicLong maxWaitNanos   = new AtomicLong();
+
+    private static PathJobExecutor executor;
 
     /**
      * Minecolonies specific thread factory.
@@ -57,6 +81,142 @@ public final class Pathfinding
         }
     }
 
+    /**
+     * Queued pathfinding task, ordered by job priority and then by submission order.
+     */
+    private static class PathJobTask extends FutureTask<Path> implements Comparable<PathJobTask>
+    {
+        /**
+         * Priority of the wrapped job.
+         */
+        private final PathJobPriority priority;
+
+        /**
+         * Submission order.
+         */
+        private final long sequence;
+
+        /**
+         * System time the task was queued at.
+         */
+        private final long queuedAt;
+
+        private PathJobTask(final Callable<Path> callable)
+        {
+            super(callable);
+            this.priority = callable instanceof AbstractPathJob ? ((AbstractPathJob) callable).getPriority() : PathJobPriority.NORMAL;
+            this.sequence = jobSequence.getAndIncrement();
+            this.queuedAt = System.nanoTime();
+        }
+
+        @Override
+        public boolean cancel(final boolean mayInterruptIfRunning)
+        {
+            final boolean cancelled = super.cancel(mayInterruptIfRunning);
+            if (cancelled)
+            {
+                // Stale jobs should not occupy a queue slot until a worker picks them up.
+                jobQueue.remove(this);
+            }
+            return cancelled;
+        }
+
+        @Override
+        public int compareTo(@NotNull final PathJobTask other)
+        {
+            final int priorityCompare = priority.compareTo(other.priority);
+            if (priorityCompare != 0)
+            {
+                return priorityCompare;
+            }
+            return Long.compare(sequence, other.sequence);
+        }
+    }
+
+    /**
+     * Executor running the path jobs on all configured worker threads, dropping the least important jobs when the queue is full.
+     */
+    private static class PathJobExecutor extends ThreadPoolExecutor
+    {
+        private PathJobExecutor(final int threads)
+        {
+            super(threads, threads, 10, TimeUnit.SECONDS, jobQueue, new MinecoloniesThreadFactory());
+            allowCoreThreadTimeOut(true);
+        }
+
+        @Override
+        protected <T> RunnableFuture<T> newTaskFor(final Callable<T> callable)
+        {
+            if (callable instanceof AbstractPathJob)
+            {
+                @SuppressWarnings("unchecked") final RunnableFuture<T> task = (RunnableFuture<T>) new PathJobTask((AbstractPathJob) callable);
+                return task;
+            }
+            return super.newTaskFor(callable);
+        }
+
+        @Override
+        public void execute(@NotNull final Runnable command)
+        {
+            if (!(command instanceof PathJobTask))
+            {
+                super.execute(command);
+                return;
+            }
+
+            final PathJobTask task = (PathJobTask) command;
+            synchronized (queueLock)
+            {
+                if (jobQueue.size() >= MineColonies.getConfig().getServer().pathfindingMaxQueueSize.get())
+                {
+                    final PathJobTask worst = getWorstQueuedTask();
+                    if (worst == null || worst.compareTo(task) < 0)
+                    {
+                        droppedJobs.incrementAndGet();
+                        task.cancel(false);
+                        return;
+                    }
+
+                    droppedJobs.incrementAndGet();
+                    worst.cancel(false);
+                }
+                super.execute(command);
+            }
+        }
+
+        @Override
+        protected void beforeExecute(final Thread thread, final Runnable runnable)
+        {
+            super.beforeExecute(thread, runnable);
+            if (runnable instanceof PathJobTask)
+            {
+                final long wait = System.nanoTime() - ((PathJobTask) runnable).queuedAt;
+                startedJobs.incrementAndGet();
+                totalWaitNanos.addAndGet(wait);
+                maxWaitNanos.accumulateAndGet(wait, Math::max);
+            }
+        }
+
+        /**
+         * Find the queued task which would be computed last.
+         *
+         * @return the task or null if none is queued.
+         */
+        @Nullable
+        private static PathJobTask getWorstQueuedTask()
+        {
+            PathJobTask worst = null;
+            for (final Runnable runnable : jobQueue)
+            {
+                if (runnable instanceof PathJobTask && (worst == null || ((PathJobTask) runnable).compareTo(worst) > 0))
+                {
+                    worst = (PathJobTask) runnable;
+                }
+            }
+            return worst;
+        }
+    }
+
     /**
      * Creates a new thread pool for pathfinding jobs
      *
@@ -66,7 +226,7 @@ public final class Pathfinding
     {
         if (executor == null)
         {
-            executor = new ThreadPoolExecutor(1, MineColonies.getConfig().getServer().pathfindingMaxThreadCount.get(), 10, TimeUnit.SECONDS, jobQueue, new MinecoloniesThreadFactory());
+            executor = new PathJobExecutor(MineColonies.getConfig().getServer().pathfindingMaxThreadCount.get());
         }
         return executor;
     }
@@ -79,6 +239,7 @@ public final class Pathfinding
         getExecutor().shutdownNow();
         jobQueue.clear();
         executor = null;
+        PathCache.clear();
     }
 
     private Pathfinding()
@@ -97,6 +258,47 @@ public final class Pathfinding
         return getExecutor().submit(job);
     }
 
+    /**
+     * Get the amount of jobs currently waiting for a worker.
+     *
+     * @return the queue depth.
+     */
+    public static int getQueueSize()
+    {
+        return jobQueue.size();
+    }
+
+    /**
+     * Get the amount of jobs which got dropped because the queue was full.
+     *
+     * @return the dropped job count.
+     */
+    public static long getDroppedJobCount()
+    {
+        return droppedJobs.get();
+    }
+
+    /**
+     * Get the average time jobs waited in the queue before being computed.
+     *
+     * @return the average wait time in milliseconds.
+     */
+    public static double getAverageQueueWaitMillis()
+    {
+        final long started = startedJobs.get();
+        return started == 0 ? 0 : totalWaitNanos.get() / (double) started / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * Get the longest time a job waited in the queue before being computed.
+     *
+     * @return the max wait time in milliseconds.
+     */
+    public static double getMaxQueueWaitMillis()
+    {
+        return maxWaitNanos.get() / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
     /**
      * Render debugging information for the pathfinding system.
      *
@@ -0,0 +1,413 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.util.WorldUtil;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import net.minecraft.block.*;
+import net.minecraft.util.Direction;
+import net.minecraft.util.RegistryKey;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MutableBoundingBox;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Distance map towards the buildings of a colony, shared by all raiders of a raid coming from the same spawn point. The raid computes it once with a breadth first search
+ * from the buildings, in steps of a limited amount of cells on the server thread, and raiders follow its gradient with short local paths instead of each searching the
+ * whole way on their own. Block changes clear the cells around them and are repaired from the surrounding cells.
+ */
+public class RaidFlowField
+{
+    /**
+     * Horizontal and vertical margin around the spawn point and the colony buildings.
+     */
+    private static final int MARGIN   = 32;
+    private static final int MARGIN_Y = 24;
+
+    /**
+     * Max amount of cells of a field, it stops growing once reached.
+     */
+    private static final int MAX_CELLS = 250_000;
+
+    /**
+     * Max amount of cells expanded per step.
+     */
+    private static final int CELLS_PER_STEP = 1000;
+
+    /**
+     * Radius around a changed block in which cells are cleared and computed again.
+     */
+    private static final int REPAIR_RADIUS = 2;
+
+    /**
+     * Height differences of the cells a raider can move to from a cell, up one block or down by up to three.
+     */
+    private static final int[] MOVE_HEIGHTS = {1, 0, -1, -2, -3};
+
+    /**
+     * Value returned for cells without a distance.
+     */
+    public static final int UNKNOWN = -1;
+
+    /**
+     * The fields of the running raids.
+     */
+    private static final List<RaidFlowField> activeFields = new ArrayList<>();
+
+    /**
+     * The world of the field.
+     */
+    private final World world;
+
+    /**
+     * The area the field covers.
+     */
+    private final MutableBoundingBox bounds;
+
+    /**
+     * The distance of every reached cell to the closest building, by position.
+     */
+    private final Long2IntMap distances = new Long2IntOpenHashMap();
+
+    /**
+     * Cells whose neighbours still have to be expanded.
+     */
+    private final LongArrayFIFOQueue open = new LongArrayFIFOQueue();
+
+    /**
+     * Game time of the last step, so the field advances at most once per tick no matter how many raiders drive it.
+     */
+    private long lastStepTime = -1;
+
+    /**
+     * Create the flow field of a raid and start computing it.
+     *
+     * @param colony     the attacked colony.
+     * @param spawnPoint the spawn point of the raid.
+     */
+    public RaidFlowField(@NotNull final IColony colony, @NotNull final BlockPos spawnPoint)
+    {
+        this.world = colony.getWorld();
+        this.distances.defaultReturnValue(UNKNOWN);
+
+        final List<BlockPos> buildings = new ArrayList<>(colony.getBuildingManager().getBuildings().keySet());
+        if (buildings.isEmpty())
+        {
+            buildings.add(colony.getCenter());
+        }
+
+        int minX = Math.min(spawnPoint.getX(), colony.getCenter().getX());
+        int minY = Math.min(spawnPoint.getY(), colony.getCenter().getY());
+        int minZ = Math.min(spawnPoint.getZ(), colony.getCenter().getZ());
+        int maxX = Math.max(spawnPoint.getX(), colony.getCenter().getX());
+        int maxY = Math.max(spawnPoint.getY(), colony.getCenter().getY());
+        int maxZ = Math.max(spawnPoint.getZ(), colony.getCenter().getZ());
+        for (final BlockPos building : buildings)
+        {
+            minX = Math.min(minX, building.getX());
+            minY = Math.min(minY, building.getY());
+            minZ = Math.min(minZ, building.getZ());
+            maxX = Math.max(maxX, building.getX());
+            maxY = Math.max(maxY, building.getY());
+            maxZ = Math.max(maxZ, building.getZ());
+        }
+        this.bounds = new MutableBoundingBox(minX - MARGIN, Math.max(0, minY - MARGIN_Y), minZ - MARGIN, maxX + MARGIN, Math.min(world.getHeight() - 1, maxY + MARGIN_Y), maxZ + MARGIN);
+
+        for (final BlockPos building : buildings)
+        {
+            addSources(building);
+        }
+
+        synchronized (RaidFlowField.class)
+        {
+            activeFields.add(this);
+        }
+    }
+
+    /**
+     * Add the standable cells next to a building as sources of the field.
+     *
+     * @param building the position of the hut block.
+     */
+    private void addSources(final BlockPos building)
+    {
+        for (final Direction direction : Direction.Plane.HORIZONTAL)
+        {
+            final BlockPos side = building.offset(direction);
+            for (int dy = 1; dy >= -2; dy--)
+            {
+                final BlockPos pos = side.up(dy);
+                if (bounds.isVecInside(pos) && distances.get(pos.toLong()) == UNKNOWN && isStandable(pos))
+                {
+                    distances.put(pos.toLong(), 0);
+                    open.enqueue(pos.toLong());
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Advance the computation of the field, at most once per game tick.
+     */
+    public void update()
+    {
+        final long time = world.getGameTime();
+        if (time == lastStepTime || open.isEmpty())
+        {
+            return;
+        }
+        lastStepTime = time;
+
+        final BlockPos.Mutable neighbour = new BlockPos.Mutable();
+        for (int i = 0; i < CELLS_PER_STEP && !open.isEmpty(); i++)
+        {
+            final long cell = open.dequeueLong();
+            final int distance = distances.get(cell);
+            if (distance == UNKNOWN)
+            {
+                // Cleared by a block change after it was queued.
+                continue;
+            }
+
+            final int x = BlockPos.unpackX(cell);
+            final int y = BlockPos.unpackY(cell);
+            final int z = BlockPos.unpackZ(cell);
+            for (final Direction direction : Direction.Plane.HORIZONTAL)
+            {
+                for (final int height : MOVE_HEIGHTS)
+                {
+                    // A raider moves from the neighbour to this cell, changing its height by the move height.
+                    neighbour.setPos(x + direction.getXOffset(), y - height, z + direction.getZOffset());
+                    final long key = neighbour.toLong();
+                    final int known = distances.get(key);
+                    if ((known != UNKNOWN && known <= distance + 1) || !bounds.isVecInside(neighbour))
+                    {
+                        continue;
+                    }
+
+                    if (distances.size() >= MAX_CELLS && known == UNKNOWN)
+                    {
+                        continue;
+                    }
+
+                    if (isStandable(neighbour) && canMove(neighbour, x, y, z))
+                    {
+                        distances.put(key, distance + 1);
+                        open.enqueue(key);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Check if a raider can move from a cell to a horizontally adjacent one, jumping up one block or dropping down.
+     *
+     * @param from the cell the raider stands in.
+     * @param x    the x of the target cell.
+     * @param y    the y of the target cell.
+     * @param z    the z of the target cell.
+     * @return true if the blocks above the lower cell leave room for the move.
+     */
+    private boolean canMove(final BlockPos from, final int x, final int y, final int z)
+    {
+        if (y > from.getY())
+        {
+            return isPassable(from.up(2));
+        }
+
+        for (int dy = y + 2; dy <= from.getY() + 1; dy++)
+        {
+            if (!isPassable(new BlockPos(x, dy, z)))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Check if a raider can stand at a position, doors count as passable as raiders break them.
+     *
+     * @param pos the position of the feet.
+     * @return true if so.
+     */
+    private boolean isStandable(final BlockPos pos)
+    {
+        if (!WorldUtil.isBlockLoaded(world, pos))
+        {
+            return false;
+        }
+
+        final BlockState below = world.getBlockState(pos.down());
+        if (below.getBlock() instanceof FenceBlock || below.getBlock() instanceof WallBlock || below.getBlock() instanceof FenceGateBlock)
+        {
+            return false;
+        }
+
+        return (below.getMaterial().isSolid() || below.getMaterial().isLiquid()) && isPassable(pos) && isPassable(pos.up());
+    }
+
+    /**
+     * Check if a raider can pass through the block at a position.
+     *
+     * @param pos the position.
+     * @return true if so.
+     */
+    private boolean isPassable(final BlockPos pos)
+    {
+        final BlockState state = world.getBlockState(pos);
+        if (state.getBlock() instanceof FireBlock || state.getBlock() == Blocks.LAVA)
+        {
+            return false;
+        }
+        return !state.getMaterial().blocksMovement() || state.getBlock() instanceof DoorBlock || state.getBlock() instanceof FenceGateBlock;
+    }
+
+    /**
+     * Get the cell of the field a raider stands in.
+     *
+     * @param pos the block position of the raider.
+     * @return the cell, or null if neither it nor the cells right above or below have a distance.
+     */
+    @Nullable
+    public BlockPos getCell(@NotNull final BlockPos pos)
+    {
+        if (distances.get(pos.toLong()) != UNKNOWN)
+        {
+            return pos;
+        }
+        if (distances.get(pos.up().toLong()) != UNKNOWN)
+        {
+            return pos.up();
+        }
+        if (distances.get(pos.down().toLong()) != UNKNOWN)
+        {
+            return pos.down();
+        }
+        return null;
+    }
+
+    /**
+     * Get the distance of a cell to the closest building.
+     *
+     * @param pos the cell.
+     * @return the distance in moves, or {@link #UNKNOWN}.
+     */
+    public int getDistance(@NotNull final BlockPos pos)
+    {
+        return distances.get(pos.toLong());
+    }
+
+    /**
+     * Follow the gradient of the field from a cell down towards the buildings.
+     *
+     * @param start the cell to start at.
+     * @param steps the max amount of cells to follow.
+     * @return the cell reached, the start if no neighbour is closer to the buildings.
+     */
+    @NotNull
+    public BlockPos followGradient(@NotNull final BlockPos start, final int steps)
+    {
+        BlockPos current = start;
+        int distance = distances.get(start.toLong());
+        for (int i = 0; i < steps && distance > 0; i++)
+        {
+            BlockPos next = null;
+            for (final Direction direction : Direction.Plane.HORIZONTAL)
+            {
+                for (final int height : MOVE_HEIGHTS)
+                {
+                    final BlockPos candidate = current.offset(direction).up(height);
+                    final int candidateDistance = distances.get(candidate.toLong());
+                    if (candidateDistance != UNKNOWN && candidateDistance < distance)
+                    {
+                        next = candidate;
+                        distance = candidateDistance;
+                    }
+                }
+            }
+
+            if (next == null)
+            {
+                break;
+            }
+            current = next;
+        }
+        return current;
+    }
+
+    /**
+     * Clear the cells around a changed block and queue the surrounding cells to compute them again.
+     *
+     * @param pos the changed position.
+     */
+    private void repair(final BlockPos pos)
+    {
+        final int ring = REPAIR_RADIUS + 1;
+        for (final BlockPos cell : BlockPos.getAllInBoxMutable(pos.add(-REPAIR_RADIUS, -REPAIR_RADIUS, -REPAIR_RADIUS), pos.add(REPAIR_RADIUS, REPAIR_RADIUS, REPAIR_RADIUS)))
+        {
+            if (distances.get(cell.toLong()) > 0)
+            {
+                distances.remove(cell.toLong());
+            }
+        }
+
+        for (final BlockPos cell : BlockPos.getAllInBoxMutable(pos.add(-ring, -ring, -ring), pos.add(ring, ring, ring)))
+        {
+            if (distances.get(cell.toLong()) != UNKNOWN)
+            {
+                open.enqueue(cell.toLong());
+            }
+        }
+    }
+
+    /**
+     * Stop keeping the field up to date, called when the raid ends.
+     */
+    public void discard()
+    {
+        synchronized (RaidFlowField.class)
+        {
+            activeFields.remove(this);
+        }
+    }
+
+    /**
+     * Repair the fields of the running raids covering a changed block.
+     *
+     * @param world the world.
+     * @param pos   the changed position.
+     */
+    public static synchronized void onBlockChanged(@NotNull final World world, @NotNull final BlockPos pos)
+    {
+        if (activeFields.isEmpty())
+        {
+            return;
+        }
+
+        final RegistryKey<World> dimension = world.getDimensionKey();
+        for (final RaidFlowField field : activeFields)
+        {
+            if (field.world.getDimensionKey().equals(dimension) && field.bounds.isVecInside(pos))
+            {
+                field.repair(pos);
+            }
+        }
+    }
+
+    /**
+     * Drop all fields.
+     */
+    public static synchronized void clear()
+    {
+        activeFields.clear();
+    }
+}
@@ -5,6 +5,8 @@ import com.minecolonies.api.MinecoloniesAPIProxy;
 import com.minecolonies.api.blocks.AbstractBlockBarrel;
 import com.minecolonies.api.blocks.decorative.AbstractBlockMinecoloniesConstructionTape;
 import com.minecolonies.api.blocks.huts.AbstractBlockMinecoloniesDefault;
+import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
+import com.minecolonies.api.entity.mobs.AbstractEntityMinecoloniesMob;
 import com.minecolonies.api.entity.pathfinding.PathResult;
 import com.minecolonies.api.entity.pathfinding.PathingOptions;
 import com.minecolonies.api.util.BlockPosUtil;
@@ -12,10 +14,15 @@ import com.minecolonies.api.util.CompatibilityUtils;
 import com.minecolonies.api.util.Log;
 import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.blocks.BlockDecorationController;
+import com.minecolonies.coremod.colony.jobs.AbstractJobGuard;
 import com.minecolonies.coremod.entity.pathfinding.ChunkCache;
 import com.minecolonies.coremod.entity.pathfinding.Node;
+import com.minecolonies.coremod.entity.pathfinding.NodeHeap;
+import com.minecolonies.coremod.entity.pathfinding.PathJobPriority;
 import com.minecolonies.coremod.entity.pathfinding.PathPointExtended;
 import com.minecolonies.coremod.util.WorkerUtil;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import net.minecraft.block.*;
 import net.minecraft.block.material.Material;
 import net.minecraft.entity.LivingEntity;
@@ -40,6 +47,8 @@ import org.jetbrains.annotations.Nullable;
 import java.lang.ref.WeakReference;
 import java.util.*;
 import java.util.concurrent.Callable;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
 
 import static com.minecolonies.api.util.constant.PathingConstants.*;
 
@@ -65,7 +74,7 @@ public abstract class AbstractPathJob implements Callable<Path>
      * The pathing cache.
      */
     @NotNull
-    protected final IWorldReader world;
+    protected final ChunkCache world;
 
     /**
      * The result of the path calculation.
@@ -80,12 +89,12 @@ public abstract class AbstractPathJob implements Callable<Path>
     /**
      * Queue of all open nodes.
      */
-    private final Queue<Node> nodesOpen = new PriorityQueue<>(500);
+    private final NodeHeap nodesOpen = new NodeHeap(500);
 
     /**
      * Queue of all the visited nodes.
      */
-    private final Map<Integer, Node> nodesVisited = new HashMap<>();
+    private final Int2ObjectMap<Node> nodesVisited = new Int2ObjectOpenHashMap<>();
 
     //  Debug Rendering
     protected        boolean            debugDrawEnabled     = false;
@@ -100,6 +109,11 @@ public abstract class AbstractPathJob implements Callable<Path>
     private          int                totalNodesAdded      = 0;
     private          int                totalNodesVisited    = 0;
 
+    /**
+     * If the last search reached the destination, the result only reports it once the job is done.
+     */
+    private boolean reachedDestination = false;
+
     /**
      * Are there xz restrictions.
      */
@@ -128,6 +142,22 @@ public abstract class AbstractPathJob implements Callable<Path>
      */
     protected WeakReference<LivingEntity> entity;
 
+    /**
+     * Surface types by ordinal, to resolve cached surface values without copying the values array.
+     */
+    private static final SurfaceType[] SURFACE_TYPES = SurfaceType.values();
+
+    /**
+     * Flag computations for the pathing cache, kept as fields so cache lookups don't allocate.
+     */
+    private final Predicate<BlockPos>     passableCheck     = pos -> isPassable(world.getBlockState(pos), pos);
+    private final Predicate<BlockPos>     passableFeetCheck = pos -> computePassable(pos, false);
+    private final Predicate<BlockPos>     passableHeadCheck = pos -> computePassable(pos, true);
+    private final Predicate<BlockPos>     ladderCheck       = pos -> isLadder(world.getBlockState(pos).getBlock(), pos);
+    private final Predicate<BlockPos>     roadCheck         = pos -> WorkerUtil.isPathBlock(world.getBlockState(pos).getBlock());
+    private final Predicate<BlockPos>     waterCheck        = pos -> isWater(world, pos);
+    private final ToIntFunction<BlockPos> surfaceCheck      = pos -> isWalkableSurface(world.getBlockState(pos), pos).ordinal();
+
     /**
      * AbstractPathJob constructor.
      *
@@ -491,9 +521,9 @@ public abstract class AbstractPathJob implements Callable<Path>
         return node != null && node.isClosed();
     }
 
-    private static boolean calculateSwimming(@NotNull final IWorldReader world, @NotNull final BlockPos pos, @Nullable final Node node)
+    private boolean calculateSwimming(@NotNull final BlockPos pos, @Nullable final Node node)
     {
-        return (node == null) ? isWater(world, pos.down()) : node.isSwimming();
+        return (node == null) ? world.getPathingFlag(pos.down(), ChunkCache.FLAG_WATER, waterCheck) : node.isSwimming();
     }
 
     /**
@@ -528,6 +558,23 @@ public abstract class AbstractPathJob implements Callable<Path>
         return result;
     }
 
+    /**
+     * Get the scheduling priority of this job, guards and raiders are computed before regular citizens.
+     *
+     * @return the priority.
+     */
+    public PathJobPriority getPriority()
+    {
+        final LivingEntity livingEntity = entity.get();
+        if (livingEntity instanceof AbstractEntityMinecoloniesMob
+              || (livingEntity instanceof AbstractEntityCitizen
+                    && ((AbstractEntityCitizen) livingEntity).getCitizenJobHandler().getColonyJob() instanceof AbstractJobGuard))
+        {
+            return PathJobPriority.HIGH;
+        }
+        return PathJobPriority.NORMAL;
+    }
+
     /**
      * Callable method for initiating asynchronous task.
      *
@@ -587,6 +634,7 @@ public abstract class AbstractPathJob implements Callable<Path>
             if (isViablePosition && isAtDestination(currentNode))
             {
                 bestNode = currentNode;
+                reachedDestination = true;
                 result.setPathReachesDestination(true);
                 break;
             }
@@ -595,7 +643,7 @@ public abstract class AbstractPathJob implements Callable<Path>
             final double nodeResultScore =
               getNodeResultScore(currentNode);
             if (isViablePosition && nodeResultScore < bestNodeResultScore && !currentNode.isCornerNode()
-                  && isWalkableSurface(world.getBlockState(currentNode.pos.down()), currentNode.pos.down()) == SurfaceType.WALKABLE)
+                  && isWalkableSurface(currentNode.pos.down()) == SurfaceType.WALKABLE)
             {
                 bestNode = currentNode;
                 bestNodeResultScore = nodeResultScore;
@@ -615,6 +663,35 @@ public abstract class AbstractPathJob implements Callable<Path>
         return path;
     }
 
+    /**
+     * Drop the state of a previous search, so the job can search again.
+     */
+    protected void resetSearch()
+    {
+        nodesOpen.clear();
+        nodesVisited.clear();
+        totalNodesAdded = 0;
+        totalNodesVisited = 0;
+        reachedDestination = false;
+        result.setPathReachesDestination(false);
+        if (debugDrawEnabled)
+        {
+            debugNodesVisited.clear();
+            debugNodesNotVisited.clear();
+            debugNodesPath.clear();
+        }
+    }
+
+    /**
+     * Check if the last search reached the destination, usable from within the job while it is running.
+     *
+     * @return true if so.
+     */
+    protected boolean hasReachedDestination()
+    {
+        return reachedDestination;
+    }
+
     private void handleDebugOptions(final Node currentNode)
     {
         if (debugDrawEnabled)
@@ -945,6 +1022,11 @@ public abstract class AbstractPathJob implements Callable<Path>
             }
         }
 
+        if (!isInSearchArea(pos))
+        {
+            return false;
+        }
+
         int nodeKey = computeNodeKey(pos);
         Node node = nodesVisited.get(nodeKey);
         if (nodeClosed(node))
@@ -953,7 +1035,7 @@ public abstract class AbstractPathJob implements Callable<Path>
             return false;
         }
 
-        final boolean isSwimming = calculateSwimming(world, pos, node);
+        final boolean isSwimming = calculateSwimming(pos, node);
 
         if (isSwimming && !pathingOptions.canSwim())
         {
@@ -961,7 +1043,7 @@ public abstract class AbstractPathJob implements Callable<Path>
         }
 
         final boolean swimStart = isSwimming && !parent.isSwimming();
-        final boolean onRoad = WorkerUtil.isPathBlock(world.getBlockState(pos.down()).getBlock());
+        final boolean onRoad = world.getPathingFlag(pos.down(), ChunkCache.FLAG_ROAD, roadCheck);
         final boolean onRails = pathingOptions.canUseRails() && world.getBlockState(corner ? pos.down() : pos).getBlock() instanceof AbstractRailBlock;
         final boolean railsExit = !onRails && parent != null && parent.isOnRails();
         //  Cost may have changed due to a jump up or drop
@@ -1034,7 +1116,8 @@ public abstract class AbstractPathJob implements Callable<Path>
             return true;
         }
 
-        if (!nodesOpen.remove(node))
+        // Only open nodes can be improved, the heap restores its order once the node is offered again.
+        if (!nodesOpen.contains(node))
         {
             return true;
         }
@@ -1064,10 +1147,9 @@ public abstract class AbstractPathJob implements Callable<Path>
         }
 
         //  Now check the block we want to move to
-        final BlockState target = world.getBlockState(pos);
-        if (!isPassable(target, pos))
+        if (!isPassable(pos))
         {
-            return handleTargetNotPassable(parent, pos, target);
+            return handleTargetNotPassable(parent, pos, world.getBlockState(pos));
         }
 
         //  Do we have something to stand on in the target space?
@@ -1095,7 +1177,7 @@ public abstract class AbstractPathJob implements Callable<Path>
             return handleInLiquid(pos, below, isSwimming);
         }
 
-        if (isLadder(below.getBlock(), pos.down()))
+        if (isLadder(pos.down()))
         {
             return pos.getY();
         }
@@ -1108,7 +1190,7 @@ public abstract class AbstractPathJob implements Callable<Path>
         final boolean canDrop = parent != null && !parent.isLadder();
         //  Nothing to stand on
         if (!canDrop || isSwimming || ((parent.pos.getX() != pos.getX() || parent.pos.getZ() != pos.getZ()) && isPassable(parent.pos.down(), false)
-                                         && isWalkableSurface(world.getBlockState(parent.pos.down()), parent.pos.down()) == SurfaceType.DROPABLE))
+                                         && isWalkableSurface(parent.pos.down()) == SurfaceType.DROPABLE))
         {
             return -1;
         }
@@ -1291,7 +1373,7 @@ public abstract class AbstractPathJob implements Callable<Path>
             else
             {
                 final VoxelShape shape = block.getCollisionShape(world, pos);
-                return isLadder(block.getBlock(), pos) ||
+                return isLadder(pos) ||
                          ((shape.isEmpty() || shape.getEnd(Direction.Axis.Y) <= 0.1)
                          && !block.getMaterial().isLiquid()
                          && (block.getBlock() != Blocks.SNOW || block.get(SnowBlock.LAYERS) == 1)
@@ -1302,7 +1384,30 @@ public abstract class AbstractPathJob implements Callable<Path>
         return true;
     }
 
+    /**
+     * Is the block at the position passable, cached per position.
+     *
+     * @param pos the position.
+     * @return true if the block does not block movement.
+     */
+    protected boolean isPassable(final BlockPos pos)
+    {
+        return world.getPathingFlag(pos, ChunkCache.FLAG_PASSABLE, passableCheck);
+    }
+
+    /**
+     * Is the space passable for the feet or the head of the entity, cached per position.
+     *
+     * @param pos  the position.
+     * @param head if the head is at this position.
+     * @return true if so.
+     */
     protected boolean isPassable(final BlockPos pos, final boolean head)
+    {
+        return world.getPathingFlag(pos, head ? ChunkCache.FLAG_PASSABLE_HEAD : ChunkCache.FLAG_PASSABLE_FEET, head ? passableHeadCheck : passableFeetCheck);
+    }
+
+    private boolean computePassable(final BlockPos pos, final boolean head)
     {
         final BlockState state = world.getBlockState(pos);
         final VoxelShape shape = state.getCollisionShape(world, pos);
@@ -1310,9 +1415,21 @@ public abstract class AbstractPathJob implements Callable<Path>
         {
             return !head
                      || !(state.getBlock() instanceof CarpetBlock || state.getBlock() instanceof BlockFloatingCarpet)
-                     || isLadder(state.getBlock(), pos);
+                     || isLadder(pos);
         }
-        return isPassable(state, pos);
+        return isPassable(pos);
+    }
+
+    /**
+     * Is the block at the position solid and can be stood upon, cached per position.
+     *
+     * @param pos the position.
+     * @return the surface type of the block.
+     */
+    @NotNull
+    protected SurfaceType isWalkableSurface(final BlockPos pos)
+    {
+        return SURFACE_TYPES[world.getPathingSurface(pos, surfaceCheck)];
     }
 
     /**
@@ -1376,7 +1493,7 @@ public abstract class AbstractPathJob implements Callable<Path>
 
     protected boolean isLadder(final BlockPos pos)
     {
-        return isLadder(world.getBlockState(pos).getBlock(), pos);
+        return world.getPathingFlag(pos, ChunkCache.FLAG_LADDER, ladderCheck);
     }
 
     /**
@@ -1399,6 +1516,17 @@ public abstract class AbstractPathJob implements Callable<Path>
         NOT_PASSABLE
     }
 
+    /**
+     * Check if the search may visit the position at all, allows subclasses to limit the search to a sub area.
+     *
+     * @param pos the pos to check.
+     * @return true if so.
+     */
+    protected boolean isInSearchArea(final BlockPos pos)
+    {
+        return true;
+    }
+
     /**
      * Check if in restricted area.
      * @param pos the pos to check.
@@ -3,6 +3,7 @@ package com.minecolonies.coremod.entity.pathfinding.pathjobs;
 import com.minecolonies.api.util.Log;
 import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.entity.pathfinding.Node;
+import com.minecolonies.coremod.entity.pathfinding.PathJobPriority;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.pathfinding.Path;
 import net.minecraft.util.math.BlockPos;
@@ -104,4 +105,11 @@ public class PathJobMoveAwayFromLocation extends AbstractPathJob
     {
         return -avoid.distanceSq(n.pos);
     }
+
+    @Override
+    public PathJobPriority getPriority()
+    {
+        // Fleeing entities need their path as soon as possible.
+        return PathJobPriority.HIGH;
+    }
 }
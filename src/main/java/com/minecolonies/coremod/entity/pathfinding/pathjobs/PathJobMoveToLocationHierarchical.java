@@ -0,0 +1,286 @@
+package com.minecolonies.coremod.entity.pathfinding.pathjobs;
+
+import com.minecolonies.api.util.Log;
+import com.minecolonies.coremod.MineColonies;
+import com.minecolonies.coremod.entity.pathfinding.ColonyPathingGrid;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.pathfinding.Path;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraft.world.gen.Heightmap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.PriorityQueue;
+
+import static com.minecolonies.api.util.constant.PathingConstants.DEBUG_VERBOSITY_NONE;
+
+/**
+ * Job that handles moving to a far away location. First finds a route over chunk sized regions connected by walkable border crossings (portals), then runs the regular
+ * search only inside the regions along that route.
+ */
+public class PathJobMoveToLocationHierarchical extends PathJobMoveToLocation
+{
+    /**
+     * Size of a region in blocks.
+     */
+    private static final int REGION_SIZE = 16;
+
+    /**
+     * Horizontal neighbour offsets of a region.
+     */
+    private static final int[][] REGION_NEIGHBOURS = {{1, 0}, {-1, 0}, {0, 1}, {0, -1}};
+
+    /**
+     * The target location.
+     */
+    @NotNull
+    private final BlockPos end;
+
+    /**
+     * The regions the search may visit, null if no region route was found and the search is unrestricted.
+     */
+    @Nullable
+    private LongSet corridor = null;
+
+    /**
+     * A region on the high level route.
+     */
+    private static class RegionNode implements Comparable<RegionNode>
+    {
+        private final int        x;
+        private final int        z;
+        private final int        cost;
+        private final int        score;
+        @Nullable
+        private final RegionNode parent;
+
+        private RegionNode(final int x, final int z, final int cost, final int heuristic, @Nullable final RegionNode parent)
+        {
+            this.x = x;
+            this.z = z;
+            this.cost = cost;
+            this.score = cost + heuristic;
+            this.parent = parent;
+        }
+
+        @Override
+        public int compareTo(@NotNull final RegionNode other)
+        {
+            return Integer.compare(score, other.score);
+        }
+    }
+
+    /**
+     * Prepares the PathJob for the path finding system.
+     *
+     * @param world  world the entity is in.
+     * @param start  starting location.
+     * @param end    target location.
+     * @param range  max search range.
+     * @param entity the entity.
+     */
+    public PathJobMoveToLocationHierarchical(final World world, @NotNull final BlockPos start, @NotNull final BlockPos end, final int range, final LivingEntity entity)
+    {
+        super(world, start, end, range, entity);
+        this.end = new BlockPos(end);
+    }
+
+    @Nullable
+    @Override
+    protected Path search()
+    {
+        corridor = computeCorridor();
+        if (corridor == null && MineColonies.getConfig().getServer().pathfindingDebugVerbosity.get() > DEBUG_VERBOSITY_NONE)
+        {
+            Log.getLogger().info("No region route found, falling back to an unrestricted search");
+        }
+
+        final Path path = super.search();
+        if (corridor == null || path == null || hasReachedDestination())
+        {
+            return path;
+        }
+
+        // The corridor follows the surface, which can miss routes through buildings. Search again without it before giving up.
+        if (MineColonies.getConfig().getServer().pathfindingDebugVerbosity.get() > DEBUG_VERBOSITY_NONE)
+        {
+            Log.getLogger().info("No path found within the region route, falling back to an unrestricted search");
+        }
+        corridor = null;
+        resetSearch();
+        return super.search();
+    }
+
+    @Override
+    protected boolean isInSearchArea(final BlockPos pos)
+    {
+        return corridor == null || corridor.contains(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4));
+    }
+
+    /**
+     * Find the route over the regions from the start to the end region and return it, including the regions directly around it to allow for local detours.
+     *
+     * @return the regions to search in or null if no route was found.
+     */
+    @Nullable
+    private LongSet computeCorridor()
+    {
+        final int startX = start.getX() >> 4;
+        final int startZ = start.getZ() >> 4;
+        final int endX = end.getX() >> 4;
+        final int endZ = end.getZ() >> 4;
+        if (!world.isChunkCached(startX, startZ) || !world.isChunkCached(endX, endZ))
+        {
+            return null;
+        }
+
+        final PriorityQueue<RegionNode> open = new PriorityQueue<>();
+        final Long2ObjectMap<RegionNode> best = new Long2ObjectOpenHashMap<>();
+        final LongSet closed = new LongOpenHashSet();
+
+        final RegionNode startNode = new RegionNode(startX, startZ, 0, Math.abs(endX - startX) + Math.abs(endZ - startZ), null);
+        open.add(startNode);
+        best.put(ChunkPos.asLong(startX, startZ), startNode);
+
+        while (!open.isEmpty())
+        {
+            if (Thread.currentThread().isInterrupted())
+            {
+                return null;
+            }
+
+            final RegionNode current = open.poll();
+            if (!closed.add(ChunkPos.asLong(current.x, current.z)))
+            {
+                continue;
+            }
+
+            if (current.x == endX && current.z == endZ)
+            {
+                return buildCorridor(current);
+            }
+
+            for (final int[] offset : REGION_NEIGHBOURS)
+            {
+                final int x = current.x + offset[0];
+                final int z = current.z + offset[1];
+                final long key = ChunkPos.asLong(x, z);
+                if (closed.contains(key) || !world.isChunkCached(x, z) || !hasPortal(current.x, current.z, x, z))
+                {
+                    continue;
+                }
+
+                final RegionNode known = best.get(key);
+                if (known == null || known.cost > current.cost + 1)
+                {
+                    final RegionNode next = new RegionNode(x, z, current.cost + 1, Math.abs(endX - x) + Math.abs(endZ - z), current);
+                    best.put(key, next);
+                    open.add(next);
+                }
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Collect the regions of the route and their direct neighbours.
+     *
+     * @param last the last region of the route.
+     * @return the set of regions.
+     */
+    private LongSet buildCorridor(@NotNull final RegionNode last)
+    {
+        final LongSet regions = new LongOpenHashSet();
+        for (RegionNode node = last; node != null; node = node.parent)
+        {
+            for (int x = -1; x <= 1; x++)
+            {
+                for (int z = -1; z <= 1; z++)
+                {
+                    regions.add(ChunkPos.asLong(node.x + x, node.z + z));
+                }
+            }
+        }
+        return regions;
+    }
+
+    /**
+     * Check if two adjacent regions are connected, using the colony cache if the region is part of a colony.
+     *
+     * @param fromX the x of the first region.
+     * @param fromZ the z of the first region.
+     * @param toX   the x of the second region.
+     * @param toZ   the z of the second region.
+     * @return true if there is a walkable crossing between them.
+     */
+    private boolean hasPortal(final int fromX, final int fromZ, final int toX, final int toZ)
+    {
+        ColonyPathingGrid grid = world.getColonyGrid(fromX, fromZ);
+        if (grid == null)
+        {
+            grid = world.getColonyGrid(toX, toZ);
+        }
+
+        final Boolean cached = grid == null ? null : grid.getPortal(fromX, fromZ, toX, toZ);
+        if (cached != null)
+        {
+            return cached;
+        }
+
+        final boolean connected = computePortal(fromX, fromZ, toX, toZ);
+        if (grid != null)
+        {
+            grid.setPortal(fromX, fromZ, toX, toZ, connected);
+        }
+        return connected;
+    }
+
+    /**
+     * Check the surface columns along the shared border of two adjacent regions for a crossing an entity can walk over.
+     *
+     * @param fromX the x of the first region.
+     * @param fromZ the z of the first region.
+     * @param toX   the x of the second region.
+     * @param toZ   the z of the second region.
+     * @return true if there is a walkable crossing.
+     */
+    private boolean computePortal(final int fromX, final int fromZ, final int toX, final int toZ)
+    {
+        final int dX = toX - fromX;
+        final int dZ = toZ - fromZ;
+        final int borderX = dX > 0 ? fromX * REGION_SIZE + REGION_SIZE - 1 : fromX * REGION_SIZE;
+        final int borderZ = dZ > 0 ? fromZ * REGION_SIZE + REGION_SIZE - 1 : fromZ * REGION_SIZE;
+
+        for (int i = 0; i < REGION_SIZE; i++)
+        {
+            final int x = dX == 0 ? fromX * REGION_SIZE + i : borderX;
+            final int z = dZ == 0 ? fromZ * REGION_SIZE + i : borderZ;
+
+            final int fromY = world.getHeight(Heightmap.Type.MOTION_BLOCKING_NO_LEAVES, x, z);
+            final int toY = world.getHeight(Heightmap.Type.MOTION_BLOCKING_NO_LEAVES, x + dX, z + dZ);
+            if (Math.abs(fromY - toY) <= 1 && isStandable(new BlockPos(x, fromY, z)) && isStandable(new BlockPos(x + dX, toY, z + dZ)))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Check if an entity can stand at the position.
+     *
+     * @param pos the position of the feet.
+     * @return true if so.
+     */
+    private boolean isStandable(final BlockPos pos)
+    {
+        return isWalkableSurface(pos.down()) == SurfaceType.WALKABLE && isPassable(pos, false) && isPassable(pos.up(), true);
+    }
+}
@@ -5,6 +5,7 @@ import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.Log;
 import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.entity.pathfinding.Node;
+import com.minecolonies.coremod.entity.pathfinding.PathJobPriority;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.pathfinding.Path;
 import net.minecraft.util.Direction;
@@ -114,7 +115,7 @@ public class PathJobRandomPos extends AbstractPathJob
     @Override
     protected boolean isAtDestination(@NotNull final Node n)
     {
-        if ((minDistFromStart ==  1 || start.distanceSq(n.pos) > minDistFromStart * minDistFromStart) && isWalkableSurface(world.getBlockState(n.pos.down()), n.pos.down()) == SurfaceType.WALKABLE
+        if ((minDistFromStart ==  1 || start.distanceSq(n.pos) > minDistFromStart * minDistFromStart) && isWalkableSurface(n.pos.down()) == SurfaceType.WALKABLE
               && destination.distanceSq(n.pos) < this.maxDistToDest * this.maxDistToDest)
         {
             return true;
@@ -140,4 +141,11 @@ public class PathJobRandomPos extends AbstractPathJob
     {
         return destination != null && pos != null && range == maxDistToDest && destination.equals(pos);
     }
+
+    @Override
+    public PathJobPriority getPriority()
+    {
+        // Idle wandering can wait for more important jobs.
+        return PathJobPriority.LOW;
+    }
 }
@@ -1,6 +1,7 @@
 package com.minecolonies.coremod.entity.pathfinding.pathjobs;
 
 import com.minecolonies.coremod.entity.pathfinding.Node;
+import com.minecolonies.coremod.entity.pathfinding.PathJobPriority;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.util.Direction;
 import net.minecraft.util.math.BlockPos;
@@ -57,4 +58,11 @@ public class PathJobWalkRandomEdge extends AbstractPathJob
     {
         return start.manhattanDistance(n.pos);
     }
+
+    @Override
+    public PathJobPriority getPriority()
+    {
+        // Idle wandering can wait for more important jobs.
+        return PathJobPriority.LOW;
+    }
 }
@@ -22,6 +22,7 @@ import com.minecolonies.coremod.Network;
 import com.minecolonies.coremod.blocks.BlockScarecrow;
 import com.minecolonies.coremod.blocks.huts.BlockHutTownHall;
 import com.minecolonies.coremod.client.render.RenderBipedCitizen;
+import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.colony.ColonyManager;
 import com.minecolonies.coremod.colony.buildings.modules.TavernBuildingModule;
 import com.minecolonies.coremod.colony.colonyEvents.citizenEvents.VisitorSpawnedEvent;
@@ -31,6 +32,8 @@ import com.minecolonies.coremod.colony.jobs.AbstractJobGuard;
 import com.minecolonies.coremod.commands.EntryPoint;
 import com.minecolonies.coremod.entity.citizen.EntityCitizen;
 import com.minecolonies.coremod.entity.mobs.EntityMercenary;
+import com.minecolonies.coremod.entity.pathfinding.PathCache;
+import com.minecolonies.coremod.entity.pathfinding.RaidFlowField;
 import com.minecolonies.coremod.event.capabilityproviders.MinecoloniesChunkCapabilityProvider;
 import com.minecolonies.coremod.event.capabilityproviders.MinecoloniesWorldCapabilityProvider;
 import com.minecolonies.coremod.event.capabilityproviders.MinecoloniesWorldColonyManagerCapabilityProvider;
@@ -564,6 +567,43 @@ public class EventHandler
         }
     }
 
+    /**
+     * Event called on block changes which notify their neighbours, keeps the colony navigation grid, the path cache and the raid flow fields up to date.
+     *
+     * @param event the event.
+     */
+    @SubscribeEvent
+    public static void onBlockNeighborNotify(@NotNull final BlockEvent.NeighborNotifyEvent event)
+    {
+        if (!(event.getWorld() instanceof ServerWorld))
+        {
+            return;
+        }
+
+        PathCache.onBlockChanged((World) event.getWorld(), event.getPos());
+        RaidFlowField.onBlockChanged((World) event.getWorld(), event.getPos());
+
+        // Only chunks owned by a colony have grid entries, check the loaded chunk before looking up the colony.
+        final ServerWorld world = (ServerWorld) event.getWorld();
+        final Chunk chunk = world.getChunkProvider().getChunkNow(event.getPos().getX() >> 4, event.getPos().getZ() >> 4);
+        if (chunk == null)
+        {
+            return;
+        }
+
+        final int owningColony = chunk.getCapability(CLOSE_COLONY_CAP, null).map(IColonyTagCapability::getOwningColony).orElse(0);
+        if (owningColony == 0)
+        {
+            return;
+        }
+
+        final IColony colony = IColonyManager.getInstance().getColonyByDimension(owningColony, world.getDimensionKey());
+        if (colony instanceof Colony)
+        {
+            ((Colony) colony).getPathingGrid().onBlockChanged(event.getPos());
+        }
+    }
+
     /**
      * Event when a player right clicks a block, or right clicks with an item. Event gets cancelled when player has no permission. Event gets cancelled when the player has no
      * permission to place a hut, and tried it.
@@ -6,6 +6,7 @@ import com.google.common.collect.Maps;
 import com.minecolonies.api.network.IMessage;
 import com.minecolonies.api.util.Log;
 import com.minecolonies.api.util.constant.Constants;
+import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.colony.crafting.CustomRecipeManagerMessage;
 import com.minecolonies.coremod.network.messages.PermissionsMessage;
 import com.minecolonies.coremod.network.messages.client.*;
@@ -39,9 +40,11 @@ import com.minecolonies.coremod.network.messages.server.colony.citizen.*;
 import com.minecolonies.coremod.network.messages.splitting.SplitPacketMessage;
 import com.minecolonies.coremod.research.GlobalResearchTreeMessage;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.Unpooled;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.network.NetworkManager;
 import net.minecraft.util.RegistryKey;
 import net.minecraft.network.PacketBuffer;
 import net.minecraft.util.ResourceLocation;
@@ -55,8 +58,7 @@ import net.minecraftforge.fml.network.PacketDistributor;
 import net.minecraftforge.fml.network.PacketDistributor.TargetPoint;
 import net.minecraftforge.fml.network.simple.SimpleChannel;
 
-import java.util.Arrays;
-import java.util.Map;
+import java.util.*;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -86,10 +88,10 @@ public class NetworkChannel
     /**
      * Cache of partially received messages, this holds the data untill it is processed.
      */
-    private final Cache<Integer, Map<Integer, byte[]>> messageCache = CacheBuilder.newBuilder()
-                                                                        .expireAfterAccess(1, TimeUnit.MINUTES)
-                                                                        .concurrencyLevel(8)
-                                                                        .build();
+    private final Cache<Integer, CompositeByteBuf> messageCache = CacheBuilder.newBuilder()
+                                                                  .expireAfterAccess(1, TimeUnit.MINUTES)
+                                                                  .concurrencyLevel(8)
+                                                                  .build();
 
     /**
      * An atomic counter which keeps track of the split messages that have been send to somewhere from this network node.
@@ -209,6 +211,7 @@ public class NetworkChannel
         registerMessage(++idx, AdjustSkillCitizenMessage.class, AdjustSkillCitizenMessage::new);
         registerMessage(++idx, BuilderSelectWorkOrderMessage.class, BuilderSelectWorkOrderMessage::new);
         registerMessage(++idx, TriggerSettingMessage.class, TriggerSettingMessage::new);
+        registerMessage(++idx, ColonyViewResyncMessage.class, ColonyViewResyncMessage::new);
 
         //Client side only
         registerMessage(++idx, BlockParticleEffectMessage.class, BlockParticleEffectMessage::new);
@@ -294,6 +297,27 @@ public class NetworkChannel
         handleSplitting(msg, s -> rawChannel.send(PacketDistributor.PLAYER.with(() -> player), s));
     }
 
+    /**
+     * Sends to multiple players. The message is serialized once and the resulting packets are shared by all players.
+     *
+     * @param msg     message to send
+     * @param players target players
+     */
+    public void sendToPlayers(final IMessage msg, final Collection<ServerPlayerEntity> players)
+    {
+        if (players.isEmpty())
+        {
+            return;
+        }
+
+        final List<NetworkManager> networkManagers = new ArrayList<>(players.size());
+        for (final ServerPlayerEntity player : players)
+        {
+            networkManagers.add(player.connection.getNetworkManager());
+        }
+        handleSplitting(msg, s -> rawChannel.send(PacketDistributor.NMLIST.with(() -> networkManagers), s));
+    }
+
     /**
      * Sends the message to the origin of a different message based on the networking context given.
      *
@@ -406,35 +430,53 @@ public class NetworkChannel
             throw new IllegalArgumentException("The message is unknown to this channel!");
         }
 
-        //Write the message into a buffer and copy that buffer into a byte array for processing.
+        //Write the message into a buffer, compressing it if it is big.
         final ByteBuf buffer = Unpooled.buffer();
         final PacketBuffer innerPacketBuffer = new PacketBuffer(buffer);
         msg.toBytes(innerPacketBuffer);
-        final byte[] data = buffer.array();
-        buffer.release();
+
+        ByteBuf data = buffer;
+        boolean compressed = false;
+        final int compressionThreshold = MineColonies.getConfig().getServer().packetCompressionThreshold.get();
+        if (compressionThreshold > 0 && buffer.readableBytes() >= compressionThreshold)
+        {
+            final ByteBuf compressedData = SplitPacketMessage.compress(buffer);
+            if (compressedData.readableBytes() < buffer.readableBytes())
+            {
+                data = compressedData;
+                compressed = true;
+            }
+            else
+            {
+                compressedData.release();
+            }
+        }
 
         //Some tracking variables.
         //Max packet size: 90% of maximum.
         final int max_packet_size = 943718; //This is 90% of max packet size.
-        //The current index in the data array.
-        int currentIndex = 0;
+        //The end of the data to send.
+        final int end = data.writerIndex();
+        //The current index in the data.
+        int currentIndex = data.readerIndex();
         //The current index for the split packets.
         int packetIndex = 0;
         //The communication id.
         final int comId = messageCounter.getAndIncrement();
 
-        //Loop while data is available.
-        while (currentIndex < data.length)
+        //Loop while data is available, always sending at least one packet.
+        do
         {
             //Tell the network message entry that we are splitting a packet.
             this.getMessagesTypes().get(messageId).onSplitting(packetIndex);
 
-            final int extra = Math.min(max_packet_size, data.length - currentIndex);
-            //Extract the sub data array.
-            final byte[] subPacketData = Arrays.copyOfRange(data, currentIndex, currentIndex + extra);
+            final int extra = Math.min(max_packet_size, end - currentIndex);
+            //Slice the sub data, the message is written out before the next part is created.
+            final ByteBuf subPacketData = data.slice(currentIndex, extra);
 
             //Construct the wrapping packet.
-            final SplitPacketMessage splitPacketMessage = new SplitPacketMessage(comId, packetIndex++, (currentIndex + extra) >= data.length, messageId, subPacketData);
+            final SplitPacketMessage splitPacketMessage =
+              new SplitPacketMessage(comId, packetIndex++, (currentIndex + extra) >= end, compressed, messageId, subPacketData);
 
             //Send the wrapping packet.
             splitMessageConsumer.accept(splitPacketMessage);
@@ -442,6 +484,13 @@ public class NetworkChannel
             //Move our working index.
             currentIndex += extra;
         }
+        while (currentIndex < end);
+
+        if (data != buffer)
+        {
+            data.release();
+        }
+        buffer.release();
     }
 
     /**
@@ -449,7 +498,7 @@ public class NetworkChannel
      *
      * @return The message cache.
      */
-    public Cache<Integer, Map<Integer, byte[]>> getMessageCache()
+    public Cache<Integer, CompositeByteBuf> getMessageCache()
     {
         return messageCache;
     }
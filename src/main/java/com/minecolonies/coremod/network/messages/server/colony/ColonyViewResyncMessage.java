@@ -0,0 +1,64 @@
+package com.minecolonies.coremod.network.messages.server.colony;
+
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.IColonyView;
+import com.minecolonies.api.colony.permissions.Action;
+import com.minecolonies.coremod.network.messages.server.AbstractColonyServerMessage;
+import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.network.PacketBuffer;
+import net.minecraftforge.fml.network.NetworkEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Message sent by the client if a colony view update didn't apply to its version of the view, requests the full view again.
+ */
+public class ColonyViewResyncMessage extends AbstractColonyServerMessage
+{
+    /**
+     * Empty public constructor.
+     */
+    public ColonyViewResyncMessage()
+    {
+        super();
+    }
+
+    /**
+     * Creates the message to request the full colony view.
+     *
+     * @param colony view of the colony to resync.
+     */
+    public ColonyViewResyncMessage(@NotNull final IColonyView colony)
+    {
+        super(colony);
+    }
+
+    @Nullable
+    @Override
+    public Action permissionNeeded()
+    {
+        return null;
+    }
+
+    @Override
+    protected void onExecute(final NetworkEvent.Context ctxIn, final boolean isLogicalServer, final IColony colony)
+    {
+        final ServerPlayerEntity player = ctxIn.getSender();
+        if (player != null)
+        {
+            colony.getPackageManager().resendColonyView(player);
+        }
+    }
+
+    @Override
+    protected void toBytesOverride(final PacketBuffer buf)
+    {
+
+    }
+
+    @Override
+    protected void fromBytesOverride(final PacketBuffer buf)
+    {
+
+    }
+}
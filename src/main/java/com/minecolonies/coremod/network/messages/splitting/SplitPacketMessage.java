@@ -1,25 +1,38 @@
 package com.minecolonies.coremod.network.messages.splitting;
 
-import com.google.common.collect.Maps;
-import com.google.common.primitives.Bytes;
 import com.minecolonies.api.network.IMessage;
 import com.minecolonies.api.util.Log;
 import com.minecolonies.coremod.Network;
 import com.minecolonies.coremod.network.NetworkChannel;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.Unpooled;
 import net.minecraft.network.PacketBuffer;
 import net.minecraftforge.fml.LogicalSide;
 import net.minecraftforge.fml.network.NetworkEvent;
+import org.jetbrains.annotations.Nullable;
 
-import java.util.Map;
 import java.util.concurrent.ExecutionException;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
 
 /**
  * Represents a class that wrappers other messages in byte form and is used to split the wrapped messages data into several chunks.
  */
 public class SplitPacketMessage implements IMessage
 {
+    /**
+     * Max size of a decompressed message, to not allocate arbitrary amounts of memory for a malformed packet.
+     */
+    private static final int MAX_DECOMPRESSED_SIZE = 64 * 1024 * 1024;
+
+    /**
+     * Size of the intermediate buffer used while compressing and decompressing.
+     */
+    private static final int COMPRESSION_BUFFER_SIZE = 8192;
+
     /**
      * Internal communication id. Used to indicate to what wrapped message this belongs to.
      */
@@ -35,15 +48,20 @@ public class SplitPacketMessage implements IMessage
      */
     private boolean terminator = false;
 
+    /**
+     * Indicates if the wrapped message data is compressed.
+     */
+    private boolean compressed = false;
+
     /**
      * The id of the message inside the splitting logic. Identical to the index codec system in SimpleChannel-
      */
     private int innerMessageId = -1;
 
     /**
-     * The payload.
+     * The payload, a slice of the wrapped message data.
      */
-    private byte[] payload;
+    private ByteBuf payload;
 
     /**
      * The network receiving constructor.
@@ -52,11 +70,28 @@ public class SplitPacketMessage implements IMessage
     {
     }
 
-    public SplitPacketMessage(final int communicationId, final int packetIndex, final boolean terminator, final int innerMessageId, final byte[] payload)
+    /**
+     * Create a part of a split message.
+     *
+     * @param communicationId the id of the wrapped message.
+     * @param packetIndex     the index of this part.
+     * @param terminator      whether this is the last part.
+     * @param compressed      whether the wrapped message data is compressed.
+     * @param innerMessageId  the id of the wrapped message type.
+     * @param payload         the part of the wrapped message data, sent without copying.
+     */
+    public SplitPacketMessage(
+      final int communicationId,
+      final int packetIndex,
+      final boolean terminator,
+      final boolean compressed,
+      final int innerMessageId,
+      final ByteBuf payload)
     {
         this.communicationId = communicationId;
         this.packetIndex = packetIndex;
         this.terminator = terminator;
+        this.compressed = compressed;
         this.innerMessageId = innerMessageId;
         this.payload = payload;
     }
@@ -67,8 +102,10 @@ public class SplitPacketMessage implements IMessage
         buf.writeVarInt(this.communicationId);
         buf.writeVarInt(this.packetIndex);
         buf.writeBoolean(this.terminator);
+        buf.writeBoolean(this.compressed);
         buf.writeVarInt(this.innerMessageId);
-        buf.writeByteArray(this.payload);
+        buf.writeVarInt(this.payload.readableBytes());
+        buf.writeBytes(this.payload, this.payload.readerIndex(), this.payload.readableBytes());
     }
 
     @Override
@@ -77,8 +114,9 @@ public class SplitPacketMessage implements IMessage
         this.communicationId = buf.readVarInt();
         this.packetIndex = buf.readVarInt();
         this.terminator = buf.readBoolean();
+        this.compressed = buf.readBoolean();
         this.innerMessageId = buf.readVarInt();
-        this.payload = buf.readByteArray();
+        this.payload = Unpooled.wrappedBuffer(buf.readByteArray());
     }
 
     @Override
@@ -87,35 +125,46 @@ public class SplitPacketMessage implements IMessage
         try
         {
             //Sync on the message cache since this is still on the Netty thread.
+            final CompositeByteBuf packetData;
             synchronized (Network.getNetwork().getMessageCache())
             {
-                Network.getNetwork().getMessageCache().get(this.communicationId, Maps::newConcurrentMap).put(this.packetIndex, this.payload);
-            }
+                packetData = Network.getNetwork().getMessageCache().get(this.communicationId, () -> Unpooled.compositeBuffer(Integer.MAX_VALUE));
+                if (packetData.numComponents() != this.packetIndex)
+                {
+                    //Parts arrive in order on a connection, anything else means a part got lost.
+                    Log.getLogger().warn("Received split packet part {} out of order, dropping the message.", this.packetIndex);
+                    Network.getNetwork().getMessageCache().invalidate(this.communicationId);
+                    return;
+                }
+                packetData.addComponent(true, this.payload);
 
-            if (!this.terminator)
-            {
-                //We are not the last message stop executing.
-                return;
+                if (!this.terminator)
+                {
+                    //We are not the last message stop executing.
+                    return;
+                }
+                Network.getNetwork().getMessageCache().invalidate(this.communicationId);
             }
 
-            //No need to sync again, since we are now the last packet to arrive.
-            //All data gets sorted and appended.
-            final byte[] packetData = Network.getNetwork().getMessageCache().get(this.communicationId, Maps::newConcurrentMap).entrySet()
-                                        .stream()
-                                        .sorted(Map.Entry.comparingByKey())
-                                        .map(Map.Entry::getValue)
-                                        .reduce(new byte[0], Bytes::concat);
-
             //Grab the entry from the inner message id.
             final NetworkChannel.NetworkingMessageEntry<?> messageEntry = Network.getNetwork().getMessagesTypes().get(this.innerMessageId);
 
             //Create a message.
             final IMessage message = messageEntry.getCreator().get();
 
-            //Create a new buffer that reads from the packet data and then deserialize the inner message.
-            final ByteBuf buffer = Unpooled.wrappedBuffer(packetData);
+            //Deserialize the inner message from the assembled, if need be decompressed, packet data.
+            final ByteBuf buffer = this.compressed ? decompress(packetData) : packetData;
+            if (buffer == null)
+            {
+                packetData.release();
+                return;
+            }
             message.fromBytes(new PacketBuffer(buffer));
             buffer.release();
+            if (buffer != packetData)
+            {
+                packetData.release();
+            }
 
             //Execute the message.
             final LogicalSide packetOrigin = ctxIn.getDirection().getOriginationSide();
@@ -132,4 +181,105 @@ public class SplitPacketMessage implements IMessage
             Log.getLogger().error("Failed to handle split packet.", e);
         }
     }
+
+    /**
+     * Deflate the given message data.
+     *
+     * @param data the message data.
+     * @return the uncompressed size followed by the compressed data.
+     */
+    public static ByteBuf compress(final ByteBuf data)
+    {
+        final int size = data.readableBytes();
+        final ByteBuf compressed = Unpooled.buffer(size / 2 + 5);
+        new PacketBuffer(compressed).writeVarInt(size);
+
+        final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try
+        {
+            if (data.hasArray())
+            {
+                deflater.setInput(data.array(), data.arrayOffset() + data.readerIndex(), size);
+            }
+            else
+            {
+                deflater.setInput(ByteBufUtil.getBytes(data));
+            }
+            deflater.finish();
+
+            final byte[] chunk = new byte[COMPRESSION_BUFFER_SIZE];
+            while (!deflater.finished())
+            {
+                compressed.writeBytes(chunk, 0, deflater.deflate(chunk));
+            }
+        }
+        finally
+        {
+            deflater.end();
+        }
+        return compressed;
+    }
+
+    /**
+     * Inflate message data created by {@link #compress(ByteBuf)}.
+     *
+     * @param data the compressed data.
+     * @return the message data or null if it is malformed.
+     */
+    @Nullable
+    private static ByteBuf decompress(final CompositeByteBuf data)
+    {
+        final int size = new PacketBuffer(data).readVarInt();
+        if (size < 0 || size > MAX_DECOMPRESSED_SIZE)
+        {
+            Log.getLogger().error("Received a compressed split packet with an invalid size of {} bytes.", size);
+            return null;
+        }
+
+        final byte[] result = new byte[size];
+        final Inflater inflater = new Inflater();
+        try
+        {
+            int written = 0;
+            for (final ByteBuf component : data.decompose(data.readerIndex(), data.readableBytes()))
+            {
+                if (component.hasArray())
+                {
+                    inflater.setInput(component.array(), component.arrayOffset() + component.readerIndex(), component.readableBytes());
+                }
+                else
+                {
+                    inflater.setInput(ByteBufUtil.getBytes(component));
+                }
+
+                while (!inflater.needsInput() && !inflater.finished() && written < size)
+                {
+                    final int inflated = inflater.inflate(result, written, size - written);
+                    if (inflated == 0 && !inflater.needsInput() && !inflater.finished())
+                    {
+                        // No progress, e.g. the stream asks for a preset dictionary.
+                        Log.getLogger().error("Received a compressed split packet which can't be decompressed.");
+                        return null;
+                    }
+                    written += inflated;
+                }
+            }
+
+            if (written != size)
+            {
+                Log.getLogger().error("Received a compressed split packet with {} of {} expected bytes.", written, size);
+                return null;
+            }
+        }
+        catch (final DataFormatException e)
+        {
+            Log.getLogger().error("Failed to decompress split packet.", e);
+            return null;
+        }
+        finally
+        {
+            inflater.end();
+        }
+        return Unpooled.wrappedBuffer(result);
+    }
 }
@@ -10,6 +10,7 @@ import com.minecolonies.api.research.IGlobalResearchBranch;
 import com.minecolonies.api.research.IGlobalResearchTree;
 import com.minecolonies.api.research.IResearchRequirement;
 import com.minecolonies.api.research.effects.IResearchEffect;
+import com.minecolonies.api.research.effects.ResearchEffectIds;
 import com.minecolonies.api.util.Log;
 import com.minecolonies.coremod.Network;
 import com.mojang.brigadier.exceptions.CommandSyntaxException;
@@ -120,6 +121,7 @@ public class GlobalResearchTree implements IGlobalResearchTree
         }
         for (IResearchEffect<?> effect : research.getEffects())
         {
+            ResearchEffectIds.getId(effect.getId());
             if(researchEffectsIds.containsKey(effect.getId()))
             {
                 researchEffectsIds.get(effect.getId()).add(research);
@@ -2,9 +2,11 @@ package com.minecolonies.coremod.research;
 
 import com.minecolonies.api.research.effects.IResearchEffect;
 import com.minecolonies.api.research.effects.IResearchEffectManager;
+import com.minecolonies.api.research.effects.ResearchEffectIds;
 import net.minecraft.util.ResourceLocation;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -18,6 +20,11 @@ public class ResearchEffectManager implements IResearchEffectManager
      */
     private final Map<ResourceLocation, IResearchEffect<?>> effectMap = new HashMap<>();
 
+    /**
+     * The strength of the applied effects by effect id, zero for effects without strength.
+     */
+    private volatile double[] strengths = new double[0];
+
     @Override
     public <W extends IResearchEffect<?>> W getEffect(final ResourceLocation id, @NotNull final Class<W> type)
     {
@@ -32,14 +39,18 @@ public class ResearchEffectManager implements IResearchEffectManager
     @Override
     public double getEffectStrength(final ResourceLocation id)
     {
-        if(effectMap.containsKey(id))
+        if (id == null)
         {
-            if(effectMap.get(id) instanceof GlobalResearchEffect)
-            {
-                return ((GlobalResearchEffect)effectMap.get(id)).getEffect();
-            }
+            return 0;
         }
-        return 0;
+        return getEffectStrength(ResearchEffectIds.getId(id));
+    }
+
+    @Override
+    public double getEffectStrength(final int id)
+    {
+        final double[] current = strengths;
+        return id < current.length ? current[id] : 0;
     }
 
     @Override
@@ -51,11 +62,13 @@ public class ResearchEffectManager implements IResearchEffectManager
             if (effect.overrides(effectInMap))
             {
                 effectMap.put(effect.getId(), effect);
+                updateStrength(effect);
             }
         }
         else
         {
             effectMap.put(effect.getId(), effect);
+            updateStrength(effect);
         }
     }
 
@@ -63,5 +76,19 @@ public class ResearchEffectManager implements IResearchEffectManager
     public void removeAllEffects()
     {
         effectMap.clear();
+        strengths = new double[0];
+    }
+
+    /**
+     * Store the strength of an applied effect in the strength table.
+     *
+     * @param effect the effect.
+     */
+    private void updateStrength(final IResearchEffect<?> effect)
+    {
+        final int id = ResearchEffectIds.getId(effect.getId());
+        final double[] updated = id < strengths.length ? strengths.clone() : Arrays.copyOf(strengths, id + 1);
+        updated[id] = effect instanceof GlobalResearchEffect ? ((GlobalResearchEffect) effect).getEffect() : 0;
+        strengths = updated;
     }
 }
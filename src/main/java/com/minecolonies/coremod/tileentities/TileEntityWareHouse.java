@@ -1,6 +1,7 @@
 package com.minecolonies.coremod.tileentities;
 
 import com.ldtteam.structurize.util.LanguageHandler;
+import com.minecolonies.api.crafting.ItemStorage;
 import com.minecolonies.api.inventory.InventoryCitizen;
 import com.minecolonies.api.tileentities.AbstractTileEntityRack;
 import com.minecolonies.api.tileentities.AbstractTileEntityWareHouse;
@@ -36,6 +37,11 @@ public class TileEntityWareHouse extends AbstractTileEntityWareHouse
      */
     private long lastNotification                   = 0;
 
+    /**
+     * Index of the items in the racks of the warehouse.
+     */
+    private final WareHouseItemIndex itemIndex = new WareHouseItemIndex();
+
     public TileEntityWareHouse()
     {
         super(MinecoloniesTileEntities.WAREHOUSE);
@@ -44,8 +50,31 @@ public class TileEntityWareHouse extends AbstractTileEntityWareHouse
     @Override
     public boolean hasMatchingItemStackInWarehouse(@NotNull final Predicate<ItemStack> itemStackSelectionPredicate, int count)
     {
-        final List<Tuple<ItemStack, BlockPos>> targetStacks = getMatchingItemStacksInWarehouse(itemStackSelectionPredicate);
-        return targetStacks.stream().mapToInt(tuple -> ItemStackUtils.getSize(tuple.getA())).sum() >= count;
+        if (getBuilding() == null)
+        {
+            return false;
+        }
+
+        itemIndex.update(world, getBuilding().getContainers());
+        int totalCountFound = itemIndex.getCount(world, itemStackSelectionPredicate);
+        if (totalCountFound >= count)
+        {
+            return true;
+        }
+
+        for (@NotNull final BlockPos pos : itemIndex.getOtherContainers())
+        {
+            final TileEntity entity = getWorld().getTileEntity(pos);
+            if (entity instanceof ChestTileEntity)
+            {
+                totalCountFound += InventoryUtils.getItemCountInItemHandler(entity.getCapability(ITEM_HANDLER_CAPABILITY, null).orElseGet(null), itemStackSelectionPredicate);
+                if (totalCountFound >= count)
+                {
+                    return true;
+                }
+            }
+        }
+        return false;
     }
 
     @Override
@@ -57,21 +86,23 @@ public class TileEntityWareHouse extends AbstractTileEntityWareHouse
     @Override
     public boolean hasMatchingItemStackInWarehouse(@NotNull final ItemStack itemStack, final int count, final boolean ignoreNBT, final int leftOver)
     {
-        int totalCountFound = 0 - leftOver;
-        for (@NotNull final BlockPos pos : getBuilding().getContainers())
+        if (getBuilding() == null)
+        {
+            return false;
+        }
+
+        itemIndex.update(world, getBuilding().getContainers());
+        int totalCountFound = itemIndex.getCount(world, new ItemStorage(itemStack, true, ignoreNBT)) - leftOver;
+        if (totalCountFound >= count)
+        {
+            return true;
+        }
+
+        for (@NotNull final BlockPos pos : itemIndex.getOtherContainers())
         {
             if (WorldUtil.isBlockLoaded(world, pos))
             {
                 final TileEntity entity = getWorld().getTileEntity(pos);
-                if (entity instanceof TileEntityRack && !((AbstractTileEntityRack) entity).isEmpty())
-                {
-                    totalCountFound += ((AbstractTileEntityRack) entity).getCount(itemStack, true, ignoreNBT);
-                    if (totalCountFound >= count)
-                    {
-                        return true;
-                    }
-                }
-
                 if (entity instanceof ChestTileEntity)
                 {
                     totalCountFound += InventoryUtils.getItemCountInItemHandler(entity.getCapability(ITEM_HANDLER_CAPABILITY, null).orElseGet(null),
@@ -94,10 +125,11 @@ public class TileEntityWareHouse extends AbstractTileEntityWareHouse
         
         if (getBuilding() != null)
         {
-            for (@NotNull final BlockPos pos : getBuilding().getContainers())
+            itemIndex.update(world, getBuilding().getContainers());
+            for (@NotNull final BlockPos pos : itemIndex.getRacks(itemStackSelectionPredicate))
             {
                 final TileEntity entity = getWorld().getTileEntity(pos);
-                if (entity instanceof TileEntityRack && !((AbstractTileEntityRack) entity).isEmpty() && ((AbstractTileEntityRack) entity).getItemCount(itemStackSelectionPredicate) > 0)
+                if (entity instanceof TileEntityRack)
                 {
                     final TileEntityRack rack = (TileEntityRack) entity;
                     for (final ItemStack stack : (InventoryUtils.filterItemHandler(rack.getInventory(), itemStackSelectionPredicate)))
@@ -105,7 +137,11 @@ public class TileEntityWareHouse extends AbstractTileEntityWareHouse
                         found.add(new Tuple<>(stack, pos));
                     }
                 }
+            }
 
+            for (@NotNull final BlockPos pos : itemIndex.getOtherContainers())
+            {
+                final TileEntity entity = getWorld().getTileEntity(pos);
                 if (entity instanceof ChestTileEntity && InventoryUtils.hasItemInItemHandler(entity.getCapability(ITEM_HANDLER_CAPABILITY, null).orElseGet(null), itemStackSelectionPredicate))
                 {
                     for (final ItemStack stack : InventoryUtils.filterItemHandler(entity.getCapability(ITEM_HANDLER_CAPABILITY, null).orElseGet(null), itemStackSelectionPredicate))
@@ -118,6 +154,12 @@ public class TileEntityWareHouse extends AbstractTileEntityWareHouse
         return found;
     }
 
+    @Override
+    public void markContainerChanged(@NotNull final BlockPos pos)
+    {
+        itemIndex.markChanged(pos);
+    }
+
     @Override
     public void dumpInventoryIntoWareHouse(@NotNull final InventoryCitizen inventoryCitizen)
     {
@@ -0,0 +1,280 @@
+package com.minecolonies.coremod.tileentities;
+
+import com.minecolonies.api.crafting.ItemStorage;
+import com.minecolonies.api.tileentities.TileEntityRack;
+import com.minecolonies.api.util.WorldUtil;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * Index of the rack content of a warehouse, by item. Racks report content changes, only the changed racks are read again before the next query. Other containers, like
+ * chests, have no change notification and are only tracked by position so they can be scanned directly.
+ */
+public class WareHouseItemIndex
+{
+    /**
+     * The indexed content of every rack, by position.
+     */
+    private final Map<BlockPos, Map<ItemStorage, Integer>> rackContents = new HashMap<>();
+
+    /**
+     * The amount of every item storage in the racks, by item and then by the rack holding it.
+     */
+    private final Map<Item, Map<ItemStorage, Map<BlockPos, Integer>>> index = new HashMap<>();
+
+    /**
+     * Containers which are not racks.
+     */
+    private final Set<BlockPos> otherContainers = new HashSet<>();
+
+    /**
+     * Containers which changed since they were last read.
+     */
+    private final Set<BlockPos> changedContainers = new HashSet<>();
+
+    /**
+     * The container positions of the building this index was built for.
+     */
+    private final Set<BlockPos> indexedContainers = new HashSet<>();
+
+    /**
+     * Mark a container as changed.
+     *
+     * @param pos the position of the container.
+     */
+    public void markChanged(@NotNull final BlockPos pos)
+    {
+        changedContainers.add(pos);
+    }
+
+    /**
+     * Bring the index up to date with the containers of the building, reading the changed containers again.
+     *
+     * @param world      the world.
+     * @param containers the current containers of the building.
+     */
+    public void update(@NotNull final World world, @NotNull final Collection<BlockPos> containers)
+    {
+        if (containers.size() != indexedContainers.size() || !indexedContainers.containsAll(containers))
+        {
+            for (final BlockPos pos : new ArrayList<>(indexedContainers))
+            {
+                if (!containers.contains(pos))
+                {
+                    removeContainer(pos);
+                    indexedContainers.remove(pos);
+                    changedContainers.remove(pos);
+                }
+            }
+
+            for (final BlockPos pos : containers)
+            {
+                if (indexedContainers.add(pos))
+                {
+                    changedContainers.add(pos);
+                }
+            }
+        }
+
+        if (changedContainers.isEmpty())
+        {
+            return;
+        }
+
+        final Iterator<BlockPos> iterator = changedContainers.iterator();
+        while (iterator.hasNext())
+        {
+            final BlockPos pos = iterator.next();
+            if (!indexedContainers.contains(pos))
+            {
+                iterator.remove();
+                continue;
+            }
+
+            if (!WorldUtil.isBlockLoaded(world, pos))
+            {
+                // Keep the last known content until the container can be read again.
+                continue;
+            }
+
+            removeContainer(pos);
+            final TileEntity entity = world.getTileEntity(pos);
+            if (entity instanceof TileEntityRack)
+            {
+                addRack(pos, ((TileEntityRack) entity).getAllContent());
+            }
+            else if (entity != null)
+            {
+                otherContainers.add(pos);
+            }
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Count the amount of matching items in the loaded racks.
+     *
+     * @param world   the world.
+     * @param storage the storage to match, its comparison flags apply.
+     * @return the amount.
+     */
+    public int getCount(@NotNull final World world, @NotNull final ItemStorage storage)
+    {
+        final Map<ItemStorage, Map<BlockPos, Integer>> variants = index.get(storage.getItem());
+        if (variants == null)
+        {
+            return 0;
+        }
+
+        int count = 0;
+        for (final Map.Entry<ItemStorage, Map<BlockPos, Integer>> entry : variants.entrySet())
+        {
+            if (storage.equals(entry.getKey()))
+            {
+                count += getLoadedCount(world, entry.getValue());
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Count the amount of items in the loaded racks which match a predicate.
+     *
+     * @param world     the world.
+     * @param predicate the predicate.
+     * @return the amount.
+     */
+    public int getCount(@NotNull final World world, @NotNull final Predicate<ItemStack> predicate)
+    {
+        int count = 0;
+        for (final Map<ItemStorage, Map<BlockPos, Integer>> variants : index.values())
+        {
+            for (final Map.Entry<ItemStorage, Map<BlockPos, Integer>> entry : variants.entrySet())
+            {
+                if (predicate.test(entry.getKey().getItemStack()))
+                {
+                    count += getLoadedCount(world, entry.getValue());
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Get the racks holding items which match a predicate.
+     *
+     * @param predicate the predicate.
+     * @return the rack positions.
+     */
+    @NotNull
+    public Set<BlockPos> getRacks(@NotNull final Predicate<ItemStack> predicate)
+    {
+        final Set<BlockPos> racks = new LinkedHashSet<>();
+        for (final Map<ItemStorage, Map<BlockPos, Integer>> variants : index.values())
+        {
+            for (final Map.Entry<ItemStorage, Map<BlockPos, Integer>> entry : variants.entrySet())
+            {
+                if (predicate.test(entry.getKey().getItemStack()))
+                {
+                    racks.addAll(entry.getValue().keySet());
+                }
+            }
+        }
+        return racks;
+    }
+
+    /**
+     * Get the containers which are not racks.
+     *
+     * @return the unmodifiable set of positions.
+     */
+    @NotNull
+    public Set<BlockPos> getOtherContainers()
+    {
+        return Collections.unmodifiableSet(otherContainers);
+    }
+
+    /**
+     * Sum the amounts of the loaded racks.
+     *
+     * @param world  the world.
+     * @param counts the amounts by rack.
+     * @return the sum.
+     */
+    private static int getLoadedCount(final World world, final Map<BlockPos, Integer> counts)
+    {
+        int count = 0;
+        for (final Map.Entry<BlockPos, Integer> entry : counts.entrySet())
+        {
+            if (WorldUtil.isBlockLoaded(world, entry.getKey()))
+            {
+                count += entry.getValue();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Add the content of a rack to the index.
+     *
+     * @param pos     the position of the rack.
+     * @param content the content of the rack.
+     */
+    private void addRack(final BlockPos pos, final Map<ItemStorage, Integer> content)
+    {
+        final Map<ItemStorage, Integer> copy = new HashMap<>(content);
+        rackContents.put(pos, copy);
+        for (final Map.Entry<ItemStorage, Integer> entry : copy.entrySet())
+        {
+            index.computeIfAbsent(entry.getKey().getItem(), item -> new HashMap<>())
+              .computeIfAbsent(entry.getKey(), storage -> new HashMap<>())
+              .put(pos, entry.getValue());
+        }
+    }
+
+    /**
+     * Remove a container from the index.
+     *
+     * @param pos the position of the container.
+     */
+    private void removeContainer(final BlockPos pos)
+    {
+        otherContainers.remove(pos);
+        final Map<ItemStorage, Integer> content = rackContents.remove(pos);
+        if (content == null)
+        {
+            return;
+        }
+
+        for (final ItemStorage storage : content.keySet())
+        {
+            final Map<ItemStorage, Map<BlockPos, Integer>> variants = index.get(storage.getItem());
+            if (variants == null)
+            {
+                continue;
+            }
+
+            final Map<BlockPos, Integer> counts = variants.get(storage);
+            if (counts != null)
+            {
+                counts.remove(pos);
+                if (counts.isEmpty())
+                {
+                    variants.remove(storage);
+                }
+            }
+
+            if (variants.isEmpty())
+            {
+                index.remove(storage.getItem());
+            }
+        }
+    }
+}
@@ -25,10 +25,10 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.StandardCopyOption;
 import java.text.SimpleDateFormat;
-import java.util.Date;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.*;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
@@ -53,6 +53,11 @@ public final class BackUpHelper
      */
     public static final String FILENAME_EXPORT = "colony%dExport.zip";
 
+    /**
+     * The colony tags last written, by file. Only accessed from the server thread.
+     */
+    private static final Map<File, CompoundNBT> lastSavedTags = new HashMap<>();
+
     /**
      * Private constructor to hide implicit one.
      */
@@ -245,7 +250,16 @@ public final class BackUpHelper
             if (file != null)
             {
                 file.getParentFile().mkdirs();
-                CompressedStreamTools.write(compound, file);
+                final File tempFile = new File(file.getParentFile(), file.getName() + ".tmp");
+                CompressedStreamTools.write(compound, tempFile);
+                try
+                {
+                    java.nio.file.Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                }
+                catch (final AtomicMoveNotSupportedException e)
+                {
+                    java.nio.file.Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+                }
             }
         }
         catch (final IOException exception)
@@ -289,9 +303,16 @@ public final class BackUpHelper
         @NotNull final File saveDir = new File(ServerLifecycleHooks.getCurrentServer().func_240776_a_(FolderName.DOT).toFile(), FILENAME_MINECOLONIES_PATH);
         for (final IColony colony : IColonyManager.getInstance().getAllColonies())
         {
-            final CompoundNBT colonyCompound = new CompoundNBT();
-            colony.write(colonyCompound);
-            saveNBTToPath(new File(saveDir, getFolderForDimension(colony.getDimension().getLocation()) + String.format(FILENAME_COLONY, colony.getID())), colonyCompound);
+            // The colony serializes a new tag whenever it ticked since its last write, so only colonies which did not tick since then are skipped.
+            final CompoundNBT colonyCompound = colony.getColonyTag();
+            final File colonyFile = new File(saveDir, getFolderForDimension(colony.getDimension().getLocation()) + String.format(FILENAME_COLONY, colony.getID()));
+            if (colonyCompound == null || (lastSavedTags.get(colonyFile) == colonyCompound && colonyFile.exists()))
+            {
+                continue;
+            }
+
+            lastSavedTags.put(colonyFile, colonyCompound);
+            saveNBTToPath(colonyFile, colonyCompound);
         }
     }
 
@@ -306,6 +327,7 @@ public final class BackUpHelper
         @NotNull final File saveDir =
           new File(ServerLifecycleHooks.getCurrentServer().func_240776_a_(FolderName.DOT).toFile(), FILENAME_MINECOLONIES_PATH);
         final File toDelete = new File(saveDir, getFolderForDimension(dimensionID.getLocation()) + String.format(FILENAME_COLONY, colonyID));
+        lastSavedTags.remove(toDelete);
         if (toDelete.exists())
         {
             final String fileName = getFolderForDimension(dimensionID.getLocation()) + String.format(FILENAME_COLONY_DELETED, colonyID);
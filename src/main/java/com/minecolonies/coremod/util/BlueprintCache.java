@@ -0,0 +1,226 @@
+package com.minecolonies.coremod.util;
+
+import com.ldtteam.structures.blueprints.v1.Blueprint;
+import com.ldtteam.structurize.util.PlacementSettings;
+import com.minecolonies.api.util.LoadOnlyStructureHandler;
+import com.minecolonies.api.util.Log;
+import com.minecolonies.coremod.MineColonies;
+import net.minecraft.util.Mirror;
+import net.minecraft.util.Rotation;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * LRU cache of loaded and rotated blueprints, shared by all structure AIs. Blueprints are read on a background thread and rotated on the server thread afterwards, as
+ * rotating them creates their entities in the world. The cache is bounded by the total block volume of its entries. Cached blueprints are shared and must not be
+ * modified, e.g. rotated, by their users.
+ */
+public final class BlueprintCache
+{
+    /**
+     * The cached blueprints in access order.
+     */
+    private static final LinkedHashMap<BlueprintKey, Blueprint> blueprints = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * The blueprints currently being loaded.
+     */
+    private static final Map<BlueprintKey, CompletableFuture<Blueprint>> loading = new HashMap<>();
+
+    /**
+     * The total block volume of the cached blueprints.
+     */
+    private static long cachedVolume = 0;
+
+    /**
+     * Single thread loading the blueprints.
+     */
+    private static final ExecutorService loadExecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), runnable -> {
+        final Thread thread = new Thread(runnable, "Minecolonies Blueprint Loader");
+        thread.setDaemon(true);
+        thread.setUncaughtExceptionHandler((thread1, throwable) -> Log.getLogger().error("Minecolonies Blueprint Loader errored! ", throwable));
+        return thread;
+    });
+
+    /**
+     * Key of a cached blueprint.
+     */
+    private static final class BlueprintKey
+    {
+        private final String   name;
+        private final Rotation rotation;
+        private final Mirror   mirror;
+
+        private BlueprintKey(final String name, final Rotation rotation, final Mirror mirror)
+        {
+            this.name = name;
+            this.rotation = rotation;
+            this.mirror = mirror;
+        }
+
+        @Override
+        public boolean equals(final Object o)
+        {
+            if (this == o)
+            {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass())
+            {
+                return false;
+            }
+            final BlueprintKey other = (BlueprintKey) o;
+            return rotation == other.rotation && mirror == other.mirror && name.equals(other.name);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return Objects.hash(name, rotation, mirror);
+        }
+    }
+
+    private BlueprintCache()
+    {
+        //Hides default constructor.
+    }
+
+    /**
+     * Get a blueprint with the given rotation and mirror, loading it in the background if it is not cached.
+     *
+     * @param world    the server world.
+     * @param name     the name of the structure.
+     * @param rotation the rotation.
+     * @param mirror   the mirror.
+     * @return the future of the blueprint, completing with null if there is no structure with that name.
+     */
+    @NotNull
+    public static synchronized CompletableFuture<Blueprint> getBlueprint(
+      @NotNull final World world,
+      @NotNull final String name,
+      @NotNull final Rotation rotation,
+      @NotNull final Mirror mirror)
+    {
+        final BlueprintKey key = new BlueprintKey(name, rotation, mirror);
+        final Blueprint blueprint = blueprints.get(key);
+        if (blueprint != null)
+        {
+            return CompletableFuture.completedFuture(blueprint);
+        }
+
+        CompletableFuture<Blueprint> future = loading.get(key);
+        if (future == null)
+        {
+            future = CompletableFuture.supplyAsync(() -> load(world, key), loadExecutor)
+                       .thenApplyAsync(loaded -> rotate(world, key, loaded), world.getServer())
+                       .exceptionally(throwable -> {
+                           Log.getLogger().warn("Failed to load blueprint: " + key.name, throwable);
+                           return null;
+                       });
+            loading.put(key, future);
+            final CompletableFuture<Blueprint> pending = future;
+            future.thenAccept(loaded -> onLoaded(key, pending, loaded));
+        }
+        return future;
+    }
+
+    /**
+     * Drop all cached blueprints. Pending loads complete with null, their rotation would be scheduled on a server which no longer runs.
+     */
+    public static synchronized void clear()
+    {
+        blueprints.clear();
+        cachedVolume = 0;
+
+        final List<CompletableFuture<Blueprint>> pending = new ArrayList<>(loading.values());
+        loading.clear();
+        for (final CompletableFuture<Blueprint> future : pending)
+        {
+            future.complete(null);
+        }
+    }
+
+    /**
+     * Load a blueprint without rotating it, on the loader thread.
+     *
+     * @param world the world.
+     * @param key   the key of the blueprint.
+     * @return the blueprint or null if there is no structure with that name.
+     */
+    @Nullable
+    private static Blueprint load(final World world, final BlueprintKey key)
+    {
+        return new LoadOnlyStructureHandler(world, BlockPos.ZERO, key.name, new PlacementSettings(), true).getBluePrint();
+    }
+
+    /**
+     * Rotate a loaded blueprint, on the server thread.
+     *
+     * @param world     the world.
+     * @param key       the key of the blueprint.
+     * @param blueprint the loaded blueprint, null if there is no structure with that name.
+     * @return the rotated blueprint or null.
+     */
+    @Nullable
+    private static Blueprint rotate(final World world, final BlueprintKey key, @Nullable final Blueprint blueprint)
+    {
+        if (blueprint != null)
+        {
+            blueprint.rotateWithMirror(key.rotation, key.mirror, world);
+        }
+        return blueprint;
+    }
+
+    /**
+     * Move a loaded blueprint into the cache, evicting the least recently used ones above the configured volume.
+     *
+     * @param key       the key of the blueprint.
+     * @param future    the future the blueprint was loaded by.
+     * @param blueprint the blueprint, null if loading failed.
+     */
+    private static synchronized void onLoaded(final BlueprintKey key, final CompletableFuture<Blueprint> future, @Nullable final Blueprint blueprint)
+    {
+        if (loading.get(key) != future)
+        {
+            // Dropped by clear.
+            return;
+        }
+        loading.remove(key);
+
+        final long maxVolume = MineColonies.getConfig().getServer().blueprintCacheVolume.get();
+        if (blueprint == null || maxVolume <= 0)
+        {
+            return;
+        }
+
+        final Blueprint previous = blueprints.put(key, blueprint);
+        if (previous != null)
+        {
+            cachedVolume -= getVolume(previous);
+        }
+        cachedVolume += getVolume(blueprint);
+
+        while (cachedVolume > maxVolume && !blueprints.isEmpty())
+        {
+            final Map.Entry<BlueprintKey, Blueprint> eldest = blueprints.entrySet().iterator().next();
+            cachedVolume -= getVolume(eldest.getValue());
+            blueprints.remove(eldest.getKey());
+        }
+    }
+
+    /**
+     * Get the block volume of a blueprint.
+     *
+     * @param blueprint the blueprint.
+     * @return the volume.
+     */
+    private static long getVolume(final Blueprint blueprint)
+    {
+        return (long) blueprint.getSizeX() * blueprint.getSizeY() * blueprint.getSizeZ();
+    }
+}
@@ -0,0 +1,91 @@
+package com.minecolonies.coremod.util;
+
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import net.minecraft.util.RegistryKey;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Server side index of the owning colony of every loaded chunk, by dimension. Kept up to date by the {@link ChunkDataHelper} whenever it loads, unloads or changes the
+ * colony capability of a chunk, so ownership checks of loaded chunks don't have to look up the chunk and its capability.
+ */
+public final class ChunkClaimIndex
+{
+    /**
+     * Value returned for chunks which are not indexed.
+     */
+    public static final int UNKNOWN = -1;
+
+    /**
+     * The owning colony id of the loaded chunks, 0 if not owned, by dimension.
+     */
+    private static final Map<RegistryKey<World>, Long2IntMap> owners = new HashMap<>();
+
+    private ChunkClaimIndex()
+    {
+        //Hides default constructor.
+    }
+
+    /**
+     * Get the owning colony of the chunk at a position.
+     *
+     * @param world the world.
+     * @param pos   the position.
+     * @return the colony id, 0 if not owned or {@link #UNKNOWN} if the chunk is not loaded.
+     */
+    public static synchronized int getOwningColony(@NotNull final World world, @NotNull final BlockPos pos)
+    {
+        final Long2IntMap dimensionOwners = owners.get(world.getDimensionKey());
+        if (dimensionOwners == null)
+        {
+            return UNKNOWN;
+        }
+        return dimensionOwners.get(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4));
+    }
+
+    /**
+     * Set the owning colony of a loaded chunk.
+     *
+     * @param world the world.
+     * @param chunk the chunk.
+     * @param id    the colony id, 0 if not owned.
+     */
+    public static synchronized void setOwningColony(@NotNull final World world, @NotNull final Chunk chunk, final int id)
+    {
+        owners.computeIfAbsent(world.getDimensionKey(), key -> {
+            final Long2IntMap map = new Long2IntOpenHashMap();
+            map.defaultReturnValue(UNKNOWN);
+            return map;
+        }).put(chunk.getPos().asLong(), id);
+    }
+
+    /**
+     * Remove an unloaded chunk.
+     *
+     * @param world the world.
+     * @param chunk the chunk.
+     */
+    public static synchronized void removeChunk(@NotNull final World world, @NotNull final Chunk chunk)
+    {
+        final Long2IntMap dimensionOwners = owners.get(world.getDimensionKey());
+        if (dimensionOwners != null)
+        {
+            dimensionOwners.remove(chunk.getPos().asLong());
+        }
+    }
+
+    /**
+     * Drop the whole index.
+     */
+    public static synchronized void clear()
+    {
+        owners.clear();
+    }
+}
@@ -102,6 +102,7 @@ public final class ChunkDataHelper
         }
 
         final int closeColony = chunk.getCapability(CLOSE_COLONY_CAP, null).map(IColonyTagCapability::getOwningColony).orElse(0);
+        ChunkClaimIndex.setOwningColony(world, chunk, closeColony);
         if (closeColony != 0)
         {
             final IColony colony = IColonyManager.getInstance().getColonyByDimension(closeColony, world.getDimensionKey());
@@ -120,6 +121,7 @@ public final class ChunkDataHelper
      */
     public static void unloadChunk(final Chunk chunk, final World world)
     {
+        ChunkClaimIndex.removeChunk(world, chunk);
         final int closeColony = chunk.getCapability(CLOSE_COLONY_CAP, null).map(IColonyTagCapability::getOwningColony).orElse(0);
         if (closeColony != 0)
         {
@@ -215,6 +217,7 @@ public final class ChunkDataHelper
                 if (storage != null)
                 {
                     storage.applyToCap(colonyCap, chunk);
+                    ChunkClaimIndex.setOwningColony(w, chunk, colonyCap.getOwningColony());
                 }
                 if (colonyCap.getOwningColony() != 0)
                 {
@@ -427,6 +430,7 @@ public final class ChunkDataHelper
 
         if (cap.getOwningColony() == id && add)
         {
+            ChunkClaimIndex.setOwningColony(world, chunk, id);
             return true;
         }
 
@@ -444,6 +448,7 @@ public final class ChunkDataHelper
         {
             cap.removeColony(id, chunk);
         }
+        ChunkClaimIndex.setOwningColony(world, chunk, cap.getOwningColony());
 
         Network.getNetwork().sendToEveryone(new UpdateChunkCapabilityMessage(cap, chunk.getPos().x, chunk.getPos().z));
         return true;
@@ -497,6 +502,7 @@ public final class ChunkDataHelper
         {
             cap.removeBuildingClaim(id, buildingPos, chunk);
         }
+        ChunkClaimIndex.setOwningColony(world, chunk, cap.getOwningColony());
 
         Network.getNetwork().sendToEveryone(new UpdateChunkCapabilityMessage(cap, chunk.getPos().x, chunk.getPos().z));
         return true;